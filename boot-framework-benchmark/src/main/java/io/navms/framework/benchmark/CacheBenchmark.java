@@ -0,0 +1,91 @@
+package io.navms.framework.benchmark;
+
+import io.navms.framework.benchmark.support.BenchmarkEnvironment;
+import io.navms.framework.benchmark.support.Payload;
+import io.navms.framework.cache.utils.CacheUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CacheUtil 读写基准
+ * <p>
+ * 预先写入 keyCount 个键，读操作均为命中；吞吐量与 SampleTime（含 p99）同时输出
+ *
+ * @author navms
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(16)
+public class CacheBenchmark {
+
+    private static final String PREFIX = "benchmark:cache:";
+
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    @Param("10000")
+    private int keyCount;
+
+    @Param("20")
+    private int batchSize;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkEnvironment.start();
+        Map<String, Payload> values = new HashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            values.put(PREFIX + i, Payload.of(i));
+        }
+        CacheUtil.multiSet(values, TTL);
+        for (int i = 0; i < keyCount; i++) {
+            int id = i;
+            CacheUtil.getOrLoad(PREFIX + "loaded:" + i, TTL, () -> Payload.of(id));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkEnvironment.stop();
+    }
+
+    @Benchmark
+    public Payload getObject() {
+        return CacheUtil.getObject(PREFIX + nextIndex());
+    }
+
+    @Benchmark
+    public void setObject() {
+        int index = nextIndex();
+        CacheUtil.setObject(PREFIX + index, Payload.of(index), TTL);
+    }
+
+    @Benchmark
+    public Payload getOrLoad() {
+        int index = nextIndex();
+        return CacheUtil.getOrLoad(PREFIX + "loaded:" + index, TTL, () -> Payload.of(index));
+    }
+
+    @Benchmark
+    public Map<String, Payload> multiGet() {
+        List<String> keys = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            keys.add(PREFIX + nextIndex());
+        }
+        return CacheUtil.multiGet(keys);
+    }
+
+    private int nextIndex() {
+        return ThreadLocalRandom.current().nextInt(keyCount);
+    }
+
+}
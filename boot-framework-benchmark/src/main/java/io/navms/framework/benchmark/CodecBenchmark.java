@@ -0,0 +1,92 @@
+package io.navms.framework.benchmark;
+
+import io.navms.framework.benchmark.support.Payload;
+import io.navms.framework.cache.codec.CacheCodecFactory;
+import io.navms.framework.cache.config.CacheProperties;
+import io.navms.framework.cache.enums.CodecType;
+import io.navms.framework.cache.enums.CompressionType;
+import io.navms.framework.common.base.log.LogUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.*;
+import org.redisson.client.codec.Codec;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存编解码器基准，对比各编解码器与压缩算法的编码、解码耗时及编码后体积
+ * <p>
+ * 值为 size 个 {@link Payload} 组成的列表，size 为 1 时约数百字节，低于默认压缩阈值不会压缩；
+ * size 为 50 时超过阈值，用于观察压缩效果。编码后体积在每个参数组合开始时输出到日志
+ *
+ * @author navms
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class CodecBenchmark {
+
+    @Param({"JSON_JACKSON", "FASTJSON2_JSONB", "KRYO"})
+    private CodecType codecType;
+
+    @Param({"NONE", "LZ4", "DEFLATE"})
+    private CompressionType compression;
+
+    @Param({"1", "50"})
+    private int size;
+
+    private Codec codec;
+
+    private List<Payload> value;
+
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        CacheProperties.CodecProperties properties = new CacheProperties.CodecProperties();
+        properties.setType(codecType);
+        properties.setCompression(compression);
+        codec = CacheCodecFactory.create(properties);
+
+        value = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            value.add(Payload.of(i));
+        }
+        ByteBuf buf = codec.getValueEncoder().encode(value);
+        try {
+            encoded = ByteBufUtil.getBytes(buf);
+        } finally {
+            buf.release();
+        }
+        LogUtils.info("编码后体积, codec: {}, compression: {}, size: {}, bytes: {}",
+                codecType, compression, size, encoded.length);
+    }
+
+    @Benchmark
+    public int encode() throws IOException {
+        ByteBuf buf = codec.getValueEncoder().encode(value);
+        try {
+            return buf.readableBytes();
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        ByteBuf buf = Unpooled.wrappedBuffer(encoded);
+        try {
+            return codec.getValueDecoder().decode(buf, null);
+        } finally {
+            buf.release();
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package io.navms.framework.benchmark;
+
+import io.navms.framework.benchmark.support.IdSegmentDatabase;
+import io.navms.framework.datasource.idgen.IdGenResult;
+import io.navms.framework.datasource.idgen.impl.SegmentIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SegmentIdGenerator.nextId 热路径基准
+ * <p>
+ * 号段表位于 H2 内存库，号段耗尽前由后台线程预加载下一段，测量的主要是内存中取号与读写锁的开销，
+ * step 越小号段切换越频繁
+ *
+ * @author navms
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(16)
+public class IdGeneratorBenchmark {
+
+    private static final String KEY = "benchmark";
+
+    @Param({"1000", "100000"})
+    private int step;
+
+    private SegmentIdGenerator generator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        generator = new SegmentIdGenerator(IdSegmentDatabase.create("id_segment_" + step, step, KEY));
+        generator.init();
+        IdGenResult result = generator.nextId(KEY);
+        if (!result.isSuccess()) {
+            throw new IllegalStateException("号段初始化失败: " + result.getStatus());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        generator.destroy();
+    }
+
+    @Benchmark
+    public IdGenResult nextId() {
+        return generator.nextId(KEY);
+    }
+
+}
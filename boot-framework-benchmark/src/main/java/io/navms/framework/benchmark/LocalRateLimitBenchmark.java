@@ -0,0 +1,79 @@
+package io.navms.framework.benchmark;
+
+import io.navms.framework.common.ratelimit.enums.RateLimitAlgorithm;
+import io.navms.framework.common.ratelimit.strategy.RateLimitStrategy;
+import io.navms.framework.common.ratelimit.strategy.RateLimitStrategyFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 本机限流策略基准，64 线程压测无锁实现在同一 key 与高基数 key 下的吞吐
+ * <p>
+ * keySpace 为 1 时所有线程竞争同一个 CAS 状态，较大时模拟按 IP 限流；并发数策略每次获取后立即归还。
+ * limit 取计数字段上限 2^22-1，窗口为 1 秒，多核机器上单 key 吞吐会超过该上限，
+ * 结果同时包含放行与拒绝路径，通过 allowed/rejected 辅助计数区分两者的比例
+ *
+ * @author navms
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(64)
+public class LocalRateLimitBenchmark {
+
+    private static final String PREFIX = "benchmark:";
+
+    @Param({"LOCAL_TOKEN_BUCKET", "LOCAL_SLIDING_WINDOW", "LOCAL_CONCURRENCY"})
+    private RateLimitAlgorithm algorithm;
+
+    @Param({"1", "65536"})
+    private int keySpace;
+
+    @Param("4194303")
+    private int limit;
+
+    private RateLimitStrategy strategy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        strategy = new RateLimitStrategyFactory().getStrategy(algorithm);
+    }
+
+    @Benchmark
+    public boolean acquire(Outcome outcome) {
+        String key = PREFIX + algorithm.name() + ":" + ThreadLocalRandom.current().nextInt(keySpace);
+        boolean acquired = strategy.tryAcquire(key, limit, 1, TimeUnit.SECONDS);
+        if (acquired) {
+            strategy.release(key);
+            outcome.allowed++;
+        } else {
+            outcome.rejected++;
+        }
+        return acquired;
+    }
+
+    /**
+     * 每个线程的放行与拒绝次数
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcome {
+
+        public long allowed;
+
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            allowed = 0;
+            rejected = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,49 @@
+package io.navms.framework.benchmark;
+
+import io.navms.framework.benchmark.support.BenchmarkEnvironment;
+import io.navms.framework.cache.utils.LockUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LockUtil.executeWithLock 基准
+ * <p>
+ * keySpace 为 1 时所有线程争用同一把锁，衡量锁在争用下的串行吞吐；
+ * keySpace 较大时基本无争用，衡量加锁与解锁本身的往返开销
+ *
+ * @author navms
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(16)
+public class LockBenchmark {
+
+    private static final String PREFIX = "benchmark:lock:";
+
+    @Param({"1", "1024"})
+    private int keySpace;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkEnvironment.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkEnvironment.stop();
+    }
+
+    @Benchmark
+    public void executeWithLock(Blackhole blackhole) {
+        String lockKey = PREFIX + ThreadLocalRandom.current().nextInt(keySpace);
+        LockUtil.executeWithLock(lockKey, () -> blackhole.consume(lockKey), 10, TimeUnit.SECONDS);
+    }
+
+}
@@ -0,0 +1,59 @@
+package io.navms.framework.benchmark;
+
+import io.navms.framework.benchmark.support.BenchmarkEnvironment;
+import io.navms.framework.common.ratelimit.enums.RateLimitAlgorithm;
+import io.navms.framework.common.ratelimit.strategy.RateLimitStrategy;
+import io.navms.framework.common.ratelimit.strategy.RateLimitStrategyFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 限流策略基准，覆盖 {@link RateLimitAlgorithm} 中基于 Redis 的算法，本机算法见 {@link LocalRateLimitBenchmark}
+ * <p>
+ * keySpace 为 1 时所有线程打到同一个限流 key（热点接口），较大时分散到不同 key（按用户或 IP 限流）；
+ * limit 足够大以保证测量的是放行路径
+ *
+ * @author navms
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(16)
+public class RateLimitBenchmark {
+
+    private static final String PREFIX = "benchmark:";
+
+    @Param({"FIXED_WINDOW", "SLIDING_WINDOW", "SLIDING_WINDOW_COUNTER", "TOKEN_BUCKET", "LEAKY_BUCKET", "GCRA", "HYBRID"})
+    private RateLimitAlgorithm algorithm;
+
+    @Param({"1", "1024"})
+    private int keySpace;
+
+    @Param("100000000")
+    private int limit;
+
+    private RateLimitStrategy strategy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkEnvironment.start();
+        strategy = new RateLimitStrategyFactory().getStrategy(algorithm);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkEnvironment.stop();
+    }
+
+    @Benchmark
+    public boolean tryAcquire() {
+        String key = PREFIX + algorithm.name() + ":" + ThreadLocalRandom.current().nextInt(keySpace);
+        return strategy.tryAcquire(key, limit, 1, TimeUnit.SECONDS);
+    }
+
+}
@@ -0,0 +1,104 @@
+package io.navms.framework.benchmark.support;
+
+import io.navms.framework.cache.codec.CacheCodecFactory;
+import io.navms.framework.cache.config.CacheProperties;
+import io.navms.framework.common.base.log.LogUtils;
+import io.navms.framework.common.base.utils.SpringContextHolder;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.springframework.context.support.GenericApplicationContext;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+/**
+ * 基准测试环境
+ * <p>
+ * 默认在本进程内启动嵌入式 Redis；指定 -Dbenchmark.redis.address=redis://host:port 时改用外部 Redis，
+ * 以排除嵌入式实例与压测线程争用 CPU 的影响。同时注册一个最小的 Spring 上下文，
+ * 使 {@code CacheUtil}、{@code LockUtil} 与限流策略可以像在应用中一样通过 {@link SpringContextHolder} 获取依赖。
+ * 同一个 fork 内的多个 State 共享一个环境，按引用计数关闭
+ *
+ * @author navms
+ */
+public final class BenchmarkEnvironment {
+
+    private static final String ADDRESS_PROPERTY = "benchmark.redis.address";
+
+    private static int references;
+
+    private static RedisServer redisServer;
+
+    private static RedissonClient redissonClient;
+
+    private static GenericApplicationContext context;
+
+    private BenchmarkEnvironment() {
+    }
+
+    /**
+     * 启动环境，返回共享的 RedissonClient
+     */
+    public static synchronized RedissonClient start() {
+        if (references++ > 0) {
+            return redissonClient;
+        }
+
+        String address = System.getProperty(ADDRESS_PROPERTY);
+        if (address == null || address.isBlank()) {
+            int port = freePort();
+            try {
+                redisServer = new RedisServer(port);
+                redisServer.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("嵌入式 Redis 启动失败", e);
+            }
+            address = "redis://127.0.0.1:" + port;
+        }
+        LogUtils.info("基准测试使用 Redis: {}", address);
+
+        CacheProperties properties = new CacheProperties();
+        Config config = new Config();
+        config.setCodec(CacheCodecFactory.create(properties.getCodec()));
+        config.useSingleServer().setAddress(address);
+        redissonClient = Redisson.create(config);
+
+        context = new GenericApplicationContext();
+        context.registerBean(RedissonClient.class, () -> redissonClient);
+        context.registerBean(CacheProperties.class, () -> properties);
+        context.registerBean(SpringContextHolder.class);
+        context.refresh();
+        return redissonClient;
+    }
+
+    /**
+     * 释放环境，最后一个使用者释放时关闭 Redis
+     */
+    public static synchronized void stop() {
+        if (--references > 0) {
+            return;
+        }
+        context.close();
+        redissonClient.shutdown();
+        if (redisServer != null) {
+            try {
+                redisServer.stop();
+            } catch (IOException e) {
+                LogUtils.warn("嵌入式 Redis 关闭失败: {}", e.getMessage());
+            }
+            redisServer = null;
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.navms.framework.benchmark.support;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.MybatisSqlSessionFactoryBuilder;
+import io.navms.framework.datasource.idgen.mapper.IdSegmentMapper;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.h2.jdbcx.JdbcDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 号段表的 H2 内存库（MySQL 兼容模式），通过 MyBatis-Plus 构建与生产一致的 {@link IdSegmentMapper}
+ *
+ * @author navms
+ */
+public final class IdSegmentDatabase {
+
+    private static final String DDL = """
+            CREATE TABLE IF NOT EXISTS id_segment (
+                id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+                `key`       VARCHAR(128) NOT NULL UNIQUE,
+                max_id      BIGINT       NOT NULL,
+                step        INT          NOT NULL,
+                description VARCHAR(256),
+                update_time TIMESTAMP
+            )""";
+
+    private IdSegmentDatabase() {
+    }
+
+    /**
+     * 创建内存库并写入号段
+     *
+     * @param name 库名，不同的库互不影响
+     * @param step 初始步长
+     * @param keys 号段 Key
+     * @return 号段 Mapper
+     */
+    public static IdSegmentMapper create(String name, int step, String... keys) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(DDL);
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO id_segment (`key`, max_id, step, description) VALUES (?, 1, ?, 'benchmark')")) {
+                for (String key : keys) {
+                    statement.setString(1, key);
+                    statement.setInt(2, step);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("初始化号段表失败", e);
+        }
+
+        MybatisConfiguration configuration = new MybatisConfiguration();
+        configuration.setEnvironment(new Environment(name, new JdbcTransactionFactory(), dataSource));
+        configuration.addMapper(IdSegmentMapper.class);
+        SqlSessionFactory sqlSessionFactory = new MybatisSqlSessionFactoryBuilder().build(configuration);
+        // SqlSessionManager 为每次调用打开并提交独立的会话，可被号段加载线程并发使用
+        return SqlSessionManager.newInstance(sqlSessionFactory).getMapper(IdSegmentMapper.class);
+    }
+
+}
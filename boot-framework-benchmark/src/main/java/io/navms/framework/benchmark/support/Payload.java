@@ -0,0 +1,40 @@
+package io.navms.framework.benchmark.support;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基准测试使用的缓存值，大小接近常见的业务 DTO（序列化后约数百字节）
+ *
+ * @author navms
+ */
+@Data
+@NoArgsConstructor
+public class Payload {
+
+    private Long id;
+
+    private String name;
+
+    private String description;
+
+    private long createTime;
+
+    private List<String> tags = new ArrayList<>();
+
+    public static Payload of(long id) {
+        Payload payload = new Payload();
+        payload.setId(id);
+        payload.setName("payload-" + id);
+        payload.setDescription("benchmark payload used to measure cache round trips, id " + id);
+        payload.setCreateTime(System.currentTimeMillis());
+        for (int i = 0; i < 5; i++) {
+            payload.getTags().add("tag-" + i);
+        }
+        return payload;
+    }
+
+}
@@ -0,0 +1,32 @@
+package io.navms.framework.cache.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 缓存失效注解
+ * 方法执行成功后删除对应的缓存
+ *
+ * @author navms
+ */
+@Inherited
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheEvict {
+
+    /**
+     * 缓存名称，需与 {@link Cached#name()} 一致
+     */
+    String name();
+
+    /**
+     * 缓存 key 的 SpEL 表达式，需与 {@link Cached#key()} 计算出相同的值
+     */
+    String key() default "";
+
+    /**
+     * 是否在方法执行前删除缓存，默认在方法成功执行后删除
+     */
+    boolean beforeInvocation() default false;
+
+}
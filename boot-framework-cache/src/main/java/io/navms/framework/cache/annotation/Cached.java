@@ -0,0 +1,52 @@
+package io.navms.framework.cache.annotation;
+
+import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存注解
+ * 方法返回值按 key 缓存，未命中时执行方法并写入缓存，并发加载会被合并
+ *
+ * @author navms
+ */
+@Inherited
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cached {
+
+    /**
+     * 缓存名称，作为缓存键前缀
+     * 默认使用方法签名
+     */
+    String name() default "";
+
+    /**
+     * 缓存 key 的 SpEL 表达式
+     * 示例：#id, #user.id, #query.type + ':' + #query.page
+     * 为空时使用全部参数计算
+     */
+    String key() default "";
+
+    /**
+     * 过期时间，小于等于 0 表示不过期
+     */
+    long ttl() default 30;
+
+    /**
+     * 时间单位，默认分钟
+     */
+    TimeUnit timeUnit() default TimeUnit.MINUTES;
+
+    /**
+     * 过期时间随机抖动上限，单位同 timeUnit
+     * 实际过期时间在 [ttl, ttl + jitter] 之间随机，避免大量缓存同时过期
+     */
+    long jitter() default 0;
+
+    /**
+     * 是否使用分布式锁保证集群内只有一个节点执行加载
+     */
+    boolean distributed() default false;
+
+}
@@ -0,0 +1,143 @@
+package io.navms.framework.cache.aspect;
+
+import io.navms.framework.cache.annotation.CacheEvict;
+import io.navms.framework.cache.annotation.Cached;
+import io.navms.framework.cache.utils.CacheUtil;
+import io.navms.framework.common.base.utils.SecureUtils;
+import io.navms.framework.common.base.utils.StringUtils;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 缓存切面
+ * 基于 {@link Cached} 与 {@link CacheEvict} 注解实现方法级缓存，
+ * 每个方法的 SpEL 表达式只解析一次，表达式中可通过参数名、#p0 或 #a0 引用方法参数
+ *
+ * @author navms
+ */
+@Aspect
+public class CacheAspect {
+
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    private final Map<Method, KeyMetadata> cachedMetadata = new ConcurrentHashMap<>();
+    private final Map<Method, KeyMetadata> evictMetadata = new ConcurrentHashMap<>();
+
+    @Around("@annotation(cached)")
+    public Object cached(ProceedingJoinPoint point, Cached cached) throws Throwable {
+        Method method = ((MethodSignature) point.getSignature()).getMethod();
+        KeyMetadata metadata = cachedMetadata.computeIfAbsent(method,
+                m -> createMetadata(m, cached.name(), cached.key()));
+        String cacheKey = buildKey(metadata, method, point.getArgs());
+
+        try {
+            return CacheUtil.getOrLoad(cacheKey, computeTtl(cached), () -> proceed(point), cached.distributed());
+        } catch (ProceedException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Around("@annotation(cacheEvict)")
+    public Object evict(ProceedingJoinPoint point, CacheEvict cacheEvict) throws Throwable {
+        Method method = ((MethodSignature) point.getSignature()).getMethod();
+        KeyMetadata metadata = evictMetadata.computeIfAbsent(method,
+                m -> createMetadata(m, cacheEvict.name(), cacheEvict.key()));
+        String cacheKey = buildKey(metadata, method, point.getArgs());
+
+        if (cacheEvict.beforeInvocation()) {
+            CacheUtil.delete(cacheKey);
+            return point.proceed();
+        }
+        Object result = point.proceed();
+        CacheUtil.delete(cacheKey);
+        return result;
+    }
+
+    /**
+     * 计算带随机抖动的过期时间
+     */
+    private static Duration computeTtl(Cached cached) {
+        if (cached.ttl() <= 0) {
+            return null;
+        }
+        long ttlMillis = cached.timeUnit().toMillis(cached.ttl());
+        long jitterMillis = cached.timeUnit().toMillis(Math.max(0, cached.jitter()));
+        if (jitterMillis > 0) {
+            ttlMillis += ThreadLocalRandom.current().nextLong(jitterMillis + 1);
+        }
+        return Duration.ofMillis(ttlMillis);
+    }
+
+    private KeyMetadata createMetadata(Method method, String name, String key) {
+        String cacheName = StringUtils.isNotEmpty(name) ? name
+                : method.getDeclaringClass().getName() + ":" + method.getName();
+        Expression expression = StringUtils.isNotBlank(key) ? parser.parseExpression(key) : null;
+        return new KeyMetadata(cacheName, expression);
+    }
+
+    /**
+     * 构建缓存键
+     *
+     * @param metadata 方法的缓存键元数据
+     * @param method   目标方法
+     * @param args     方法参数
+     * @return 缓存键
+     */
+    private String buildKey(KeyMetadata metadata, Method method, Object[] args) {
+        if (metadata.expression() == null) {
+            if (args == null || args.length == 0) {
+                return metadata.name();
+            }
+            return metadata.name() + ":" + SecureUtils.md5(Arrays.deepToString(args));
+        }
+
+        EvaluationContext context = new MethodBasedEvaluationContext(null, method, args, parameterNameDiscoverer);
+        Object key = metadata.expression().getValue(context);
+        if (key == null) {
+            // 参数名不可用或参数为 null 时表达式结果为 null，继续使用会使不同参数共用同一缓存项
+            throw new IllegalStateException("Cache key evaluated to null, method: " + method
+                    + ", expression: " + metadata.expression().getExpressionString());
+        }
+        return metadata.name() + ":" + key;
+    }
+
+    private static Object proceed(ProceedingJoinPoint point) {
+        try {
+            return point.proceed();
+        } catch (Throwable e) {
+            throw new ProceedException(e);
+        }
+    }
+
+    private record KeyMetadata(String name, Expression expression) {
+    }
+
+    /**
+     * 在加载逻辑中透传目标方法抛出的异常
+     */
+    private static class ProceedException extends RuntimeException {
+
+        ProceedException(Throwable cause) {
+            super(null, cause, false, false);
+        }
+
+    }
+
+}
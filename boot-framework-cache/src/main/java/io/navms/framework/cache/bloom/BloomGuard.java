@@ -0,0 +1,488 @@
+package io.navms.framework.cache.bloom;
+
+import io.navms.framework.common.base.log.LogUtils;
+import io.navms.framework.common.base.utils.CollectionUtils;
+import io.netty.buffer.ByteBuf;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.misc.Hash;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 布隆过滤器防护，用于防止缓存穿透
+ * <p>
+ * 在查询缓存与数据库之前判断 ID 是否可能存在，不存在时直接返回。基于 Redisson {@link RBloomFilter}，
+ * 元素统一按字符串编码。开启本地镜像后定期拉取 Redis 中的位图，判断在本地完成；本节点新增的元素立即写入镜像，
+ * 其他节点新增的元素最多在一个同步周期后可见，期间可能被误判为不存在。
+ * <p>
+ * 过滤器按版本存放（name:v{version}），当前版本号保存在 name:version 中，
+ * {@link #rebuildAsync(Supplier)} 在后台构建新版本后切换，旧版本在两个同步周期后过期。
+ * 重建开始时以 SETNX 写入共享的重建标记（name:rebuilding），标记同时作为集群内的重建互斥锁；
+ * 各节点同步到标记后新增元素同时写入新旧两个版本，
+ * 重建节点等待两个同步周期再读取数据源，保证重建期间任何节点新增的元素都不会丢失
+ *
+ * @author navms
+ */
+public class BloomGuard implements InitializingBean, DisposableBean {
+
+    private static final double LN2 = Math.log(2);
+
+    private final RedissonClient redissonClient;
+
+    private final String name;
+
+    private final long expectedInsertions;
+
+    private final double falseProbability;
+
+    private final boolean localMirror;
+
+    private final Duration syncInterval;
+
+    private final int batchSize;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private volatile long version = -1;
+
+    private volatile RBloomFilter<String> filter;
+
+    /**
+     * 重建期间的新版本过滤器，新增元素同时写入，由重建标记同步到所有节点
+     */
+    private volatile RBloomFilter<String> pending;
+
+    private volatile Mirror mirror;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param redissonClient     Redisson 客户端
+     * @param name               过滤器名称
+     * @param expectedInsertions 预期元素数量
+     * @param falseProbability   期望误判率
+     * @param localMirror        是否启用本地镜像
+     * @param syncInterval       版本号与本地镜像的同步周期
+     */
+    public BloomGuard(RedissonClient redissonClient, String name, long expectedInsertions, double falseProbability,
+                      boolean localMirror, Duration syncInterval) {
+        this(redissonClient, name, expectedInsertions, falseProbability, localMirror, syncInterval, 1000);
+    }
+
+    /**
+     * @param redissonClient     Redisson 客户端
+     * @param name               过滤器名称
+     * @param expectedInsertions 预期元素数量
+     * @param falseProbability   期望误判率
+     * @param localMirror        是否启用本地镜像
+     * @param syncInterval       版本号与本地镜像的同步周期
+     * @param batchSize          批量加载时单次提交的元素数量
+     */
+    public BloomGuard(RedissonClient redissonClient, String name, long expectedInsertions, double falseProbability,
+                      boolean localMirror, Duration syncInterval, int batchSize) {
+        this.redissonClient = redissonClient;
+        this.name = name;
+        this.expectedInsertions = expectedInsertions;
+        this.falseProbability = falseProbability;
+        this.localMirror = localMirror;
+        this.syncInterval = syncInterval;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        versionBucket().setIfAbsent(0L);
+        sync();
+
+        long intervalMillis = Math.max(1, syncInterval.toMillis());
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bloom-guard-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::syncQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        LogUtils.info("布隆过滤器已启用, name: {}, expectedInsertions: {}, falseProbability: {}, bits: {}, localMirror: {}",
+                name, expectedInsertions, falseProbability,
+                optimalNumOfBits(expectedInsertions, falseProbability), localMirror);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 判断元素是否可能存在，返回 false 时一定不存在
+     * Redis 异常时返回 true，交由后续的缓存或数据库查询判断
+     *
+     * @param value 元素
+     * @return 是否可能存在
+     */
+    public boolean mightContain(String value) {
+        Mirror current = mirror;
+        if (current != null) {
+            return current.mightContain(value);
+        }
+        try {
+            return filter.contains(value);
+        } catch (Exception e) {
+            LogUtils.error("Bloom filter check failed, name: {}", e, name);
+            return true;
+        }
+    }
+
+    /**
+     * 元素可能存在时执行加载，一定不存在时直接返回 null
+     *
+     * @param value  元素
+     * @param loader 加载逻辑，通常为缓存或数据库查询
+     * @return 加载结果
+     */
+    public <T> T guard(String value, Supplier<T> loader) {
+        return mightContain(value) ? loader.get() : null;
+    }
+
+    /**
+     * 添加元素
+     *
+     * @param value 元素
+     */
+    public void add(String value) {
+        filter.add(value);
+        RBloomFilter<String> rebuild = pending;
+        if (rebuild != null) {
+            rebuild.add(value);
+        }
+        Mirror current = mirror;
+        if (current != null) {
+            current.put(value);
+        }
+    }
+
+    /**
+     * 批量添加元素
+     *
+     * @param values 元素集合
+     */
+    public void addAll(Collection<String> values) {
+        if (CollectionUtils.isEmpty(values)) {
+            return;
+        }
+        for (List<String> chunk : CollectionUtils.split(values, batchSize)) {
+            filter.add(chunk);
+            RBloomFilter<String> rebuild = pending;
+            if (rebuild != null) {
+                rebuild.add(chunk);
+            }
+        }
+        Mirror current = mirror;
+        if (current != null) {
+            values.forEach(current::put);
+        }
+    }
+
+    /**
+     * 从数据源批量加载元素，例如 Mapper 查询出的全部 ID
+     *
+     * @param source 数据源
+     * @return 加载的元素数量
+     */
+    public long load(Iterable<String> source) {
+        return load(filter, source);
+    }
+
+    /**
+     * 在后台以数据源重建过滤器，适用于元素已大量删除或实际数量超出预期导致误判率上升的场景
+     * 重建期间新增的元素同时写入新旧两个版本，集群内同一时刻只允许一个重建任务，其他节点正在重建时返回失败
+     *
+     * @param source 数据源
+     * @return 重建结果
+     */
+    public CompletableFuture<Void> rebuildAsync(Supplier<? extends Iterable<String>> source) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Bloom filter is rebuilding, name: " + name));
+        }
+        return CompletableFuture.runAsync(() -> rebuild(source), runnable -> {
+            Thread thread = new Thread(runnable, "bloom-guard-rebuild-" + name);
+            thread.setDaemon(true);
+            thread.start();
+        }).whenComplete((v, e) -> {
+            rebuilding.set(false);
+            if (e != null) {
+                LogUtils.error("Bloom filter rebuild failed, name: {}", e, name);
+            }
+        });
+    }
+
+    /**
+     * 当前版本号
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 当前过滤器中的估算元素数量
+     */
+    public long count() {
+        return filter.count();
+    }
+
+    // ==================== 容量估算 ====================
+
+    /**
+     * 计算最优位图大小，m = -n * ln(p) / (ln2)^2
+     *
+     * @param expectedInsertions 预期元素数量
+     * @param falseProbability   期望误判率
+     * @return 位数
+     */
+    public static long optimalNumOfBits(long expectedInsertions, double falseProbability) {
+        double probability = falseProbability == 0 ? Double.MIN_VALUE : falseProbability;
+        return (long) (-expectedInsertions * Math.log(probability) / (LN2 * LN2));
+    }
+
+    /**
+     * 计算最优哈希函数个数，k = m / n * ln2
+     *
+     * @param expectedInsertions 预期元素数量
+     * @param numOfBits          位数
+     * @return 哈希函数个数
+     */
+    public static int optimalNumOfHashFunctions(long expectedInsertions, long numOfBits) {
+        return Math.max(1, (int) Math.round((double) numOfBits / expectedInsertions * LN2));
+    }
+
+    /**
+     * 估算位图占用的内存（字节），本地镜像占用相同大小的堆内存
+     *
+     * @param expectedInsertions 预期元素数量
+     * @param falseProbability   期望误判率
+     * @return 字节数
+     */
+    public static long estimateMemoryBytes(long expectedInsertions, double falseProbability) {
+        return (optimalNumOfBits(expectedInsertions, falseProbability) + 7) / 8;
+    }
+
+    // ==================== 内部方法 ====================
+
+    private void rebuild(Supplier<? extends Iterable<String>> source) {
+        Long currentVersion = versionBucket().get();
+        long baseVersion = currentVersion != null ? currentVersion : 0;
+        long newVersion = baseVersion + 1;
+
+        // 重建标记同时作为集群内的重建互斥锁，重建节点宕机时自动过期，重建期间定期续期
+        RBucket<Long> marker = rebuildingBucket();
+        Duration markerTtl = syncInterval.multipliedBy(4);
+        if (!marker.setIfAbsent(newVersion, markerTtl)) {
+            throw new IllegalStateException("Bloom filter is rebuilding on another node, name: " + name);
+        }
+        RBloomFilter<String> next = filterOf(newVersion);
+        long intervalMillis = Math.max(1, syncInterval.toMillis());
+        ScheduledFuture<?> keepAlive = scheduler.scheduleWithFixedDelay(() -> {
+            if (Objects.equals(marker.get(), newVersion)) {
+                marker.expire(markerTtl);
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        boolean switched = false;
+        try {
+            // 取得标记前其他节点可能刚完成重建并删除标记，此时基于的版本已过时
+            if (!Objects.equals(versionBucket().get(), currentVersion)) {
+                throw new IllegalStateException("Bloom filter was rebuilt by another node, name: " + name);
+            }
+            next.delete();
+            next.tryInit(expectedInsertions, falseProbability);
+            pending = next;
+
+            // 等待其他节点同步到重建标记并开始双写，之后读取的数据源已覆盖只写入旧版本的元素
+            TimeUnit.MILLISECONDS.sleep(intervalMillis * 2);
+            long loaded = load(next, source.get());
+            if (!Objects.equals(marker.get(), newVersion)
+                    || !versionBucket().compareAndSet(currentVersion, newVersion)) {
+                throw new IllegalStateException("Bloom filter rebuild lost its marker, name: " + name);
+            }
+            RBloomFilter<String> previous = filter;
+            switchTo(newVersion, next);
+            switched = true;
+            marker.compareAndSet(newVersion, null);
+            pending = null;
+            // 其他节点最多在一个同步周期后切换到新版本，切换前仍双写，旧版本延迟过期
+            previous.expire(syncInterval.multipliedBy(2));
+            LogUtils.info("布隆过滤器重建完成, name: {}, version: {}, loaded: {}", name, newVersion, loaded);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bloom filter rebuild interrupted, name: " + name, e);
+        } finally {
+            keepAlive.cancel(false);
+            if (!switched) {
+                // 只删除本节点写入的标记，不影响其他节点正在进行的重建
+                marker.compareAndSet(newVersion, null);
+                if (pending == next) {
+                    pending = null;
+                }
+            }
+        }
+    }
+
+    private long load(RBloomFilter<String> target, Iterable<String> source) {
+        long loaded = 0;
+        List<String> chunk = new ArrayList<>(batchSize);
+        for (String value : source) {
+            chunk.add(value);
+            if (chunk.size() >= batchSize) {
+                target.add(chunk);
+                loaded += chunk.size();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            target.add(chunk);
+            loaded += chunk.size();
+        }
+        if (target == filter) {
+            syncMirror(target);
+        }
+        return loaded;
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (Exception e) {
+            LogUtils.error("Bloom filter sync failed, name: {}", e, name);
+        }
+    }
+
+    private void sync() {
+        // 先读重建标记再读版本号：标记只在版本号切换后删除，读不到标记时一定能读到新版本
+        Long rebuildingVersion = rebuildingBucket().get();
+        Long currentVersion = versionBucket().get();
+        long latest = currentVersion != null ? currentVersion : 0;
+        if (latest != version) {
+            RBloomFilter<String> latestFilter = filterOf(latest);
+            latestFilter.tryInit(expectedInsertions, falseProbability);
+            switchTo(latest, latestFilter);
+        } else {
+            syncMirror(filter);
+        }
+        pending = rebuildingVersion != null && rebuildingVersion != latest ? filterOf(rebuildingVersion) : null;
+    }
+
+    private void switchTo(long newVersion, RBloomFilter<String> newFilter) {
+        syncMirror(newFilter);
+        filter = newFilter;
+        version = newVersion;
+    }
+
+    private void syncMirror(RBloomFilter<String> source) {
+        if (!localMirror) {
+            return;
+        }
+        long size = source.getSize();
+        if ((size + 7) / 8 > Integer.MAX_VALUE - 8) {
+            LogUtils.warn("布隆过滤器位图超过本地数组上限, 不启用本地镜像, name: {}, bits: {}", name, size);
+            mirror = null;
+            return;
+        }
+        int hashIterations = source.getHashIterations();
+        // 新版本过滤器尚未写入任何元素时位图 key 不存在
+        byte[] bits = redissonClient.getBitSet(source.getName()).toByteArray();
+        mirror = new Mirror(size, hashIterations, bits != null ? bits : new byte[0]);
+    }
+
+    private RBloomFilter<String> filterOf(long filterVersion) {
+        return redissonClient.getBloomFilter(name + ":v" + filterVersion, StringCodec.INSTANCE);
+    }
+
+    private RBucket<Long> versionBucket() {
+        return redissonClient.getBucket(name + ":version", LongCodec.INSTANCE);
+    }
+
+    private RBucket<Long> rebuildingBucket() {
+        return redissonClient.getBucket(name + ":rebuilding", LongCodec.INSTANCE);
+    }
+
+    /**
+     * 本地位图镜像，位下标的计算方式与 Redisson 一致
+     */
+    private static final class Mirror {
+
+        private final long size;
+
+        private final int hashIterations;
+
+        private final byte[] bits;
+
+        Mirror(long size, int hashIterations, byte[] source) {
+            this.size = size;
+            this.hashIterations = hashIterations;
+            this.bits = new byte[Math.toIntExact((size + 7) / 8)];
+            System.arraycopy(source, 0, bits, 0, Math.min(source.length, bits.length));
+        }
+
+        boolean mightContain(String value) {
+            for (long index : indexes(value)) {
+                if ((bits[(int) (index >>> 3)] & (0x80 >>> (index & 7))) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void put(String value) {
+            for (long index : indexes(value)) {
+                int offset = (int) (index >>> 3);
+                synchronized (this) {
+                    bits[offset] |= (byte) (0x80 >>> (index & 7));
+                }
+            }
+        }
+
+        private long[] indexes(String value) {
+            long[] hashes = hash128(value);
+            long[] indexes = new long[hashIterations];
+            long hash = hashes[0];
+            for (int i = 0; i < hashIterations; i++) {
+                indexes[i] = (hash & Long.MAX_VALUE) % size;
+                hash += i % 2 == 0 ? hashes[1] : hashes[0];
+            }
+            return indexes;
+        }
+
+        private static long[] hash128(String value) {
+            ByteBuf buf;
+            try {
+                buf = StringCodec.INSTANCE.getValueEncoder().encode(value);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            try {
+                return Hash.hash128(buf);
+            } finally {
+                buf.release();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,481 @@
+package io.navms.framework.cache.breaker;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.navms.framework.cache.config.CacheProperties;
+import io.navms.framework.cache.enums.CircuitState;
+import io.navms.framework.cache.enums.WriteFallbackPolicy;
+import io.navms.framework.cache.exception.CacheUnavailableException;
+import io.navms.framework.common.base.log.LogUtils;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Redis 熔断器
+ * <p>
+ * 连续失败（{@link RedisException}，包括连接与超时异常）达到阈值后打开，打开期间读操作返回本地保存的最后已知值，
+ * 写操作按 {@link WriteFallbackPolicy} 排队或丢弃，其余操作直接抛出 {@link CacheUnavailableException}，
+ * 判断是否放行只涉及原子变量，不会阻塞请求线程。打开一段时间后进入半开状态放行少量探测请求
+ * （无请求时由后台定时探测），全部成功后关闭并重放排队的写操作，重放完成前新的写操作同样排队（队列已满时丢弃），保证同一个键的写入顺序
+ *
+ * @author navms
+ */
+public class RedisCircuitBreaker implements InitializingBean, DisposableBean {
+
+    private static final String PROBE_KEY = "boot:framework:cache:breaker:probe";
+
+    private final RedissonClient redissonClient;
+
+    private final CacheProperties.CircuitBreakerProperties properties;
+
+    private final AtomicReference<CircuitState> state = new AtomicReference<>(CircuitState.CLOSED);
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private final AtomicInteger probePermits = new AtomicInteger();
+
+    private final AtomicInteger probeSuccesses = new AtomicInteger();
+
+    private final AtomicLong writeSequence = new AtomicLong();
+
+    private final AtomicBoolean replaying = new AtomicBoolean();
+
+    private final Cache<String, Object> fallback;
+
+    private final LinkedHashMap<String, Runnable> pendingWrites = new LinkedHashMap<>();
+
+    private final Map<CircuitState, LongAdder> transitions = new EnumMap<>(CircuitState.class);
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder fallbackHits = new LongAdder();
+
+    private final LongAdder queuedWrites = new LongAdder();
+
+    private final LongAdder droppedWrites = new LongAdder();
+
+    private final LongAdder replayedWrites = new LongAdder();
+
+    private volatile long openedAt;
+
+    private ScheduledExecutorService scheduler;
+
+    public RedisCircuitBreaker(RedissonClient redissonClient, CacheProperties.CircuitBreakerProperties properties) {
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+        this.fallback = Caffeine.newBuilder()
+                .maximumSize(properties.getFallbackMaximumSize())
+                .expireAfterWrite(properties.getFallbackTtl())
+                .build();
+        for (CircuitState circuitState : CircuitState.values()) {
+            transitions.put(circuitState, new LongAdder());
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        long intervalMillis = Math.max(1, properties.getOpenDuration().toMillis());
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redis-circuit-breaker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::probe, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 执行读操作，熔断或 Redis 异常时返回最后已知值（不存在时返回 null）
+     *
+     * @param key  缓存键
+     * @param call 读取逻辑
+     * @return 读取结果
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T read(String key, Supplier<T> call) {
+        if (!tryAcquire()) {
+            return (T) fallback(key);
+        }
+        T value;
+        try {
+            value = call.get();
+        } catch (RedisException e) {
+            onFailure(e);
+            return (T) fallback(key);
+        } catch (RuntimeException e) {
+            onSuccess();
+            throw e;
+        }
+        onSuccess();
+        remember(key, value);
+        return value;
+    }
+
+    /**
+     * 执行批量读操作，熔断或 Redis 异常时返回存在最后已知值的部分
+     *
+     * @param keys 缓存键集合
+     * @param call 读取逻辑
+     * @return 读取结果
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> readAll(Collection<String> keys, Supplier<Map<String, T>> call) {
+        if (!tryAcquire()) {
+            return (Map<String, T>) fallback(keys);
+        }
+        Map<String, T> values;
+        try {
+            values = call.get();
+        } catch (RedisException e) {
+            onFailure(e);
+            return (Map<String, T>) fallback(keys);
+        } catch (RuntimeException e) {
+            onSuccess();
+            throw e;
+        }
+        onSuccess();
+        values.forEach(this::remember);
+        return values;
+    }
+
+    /**
+     * 执行写操作，熔断或 Redis 异常时按降级策略排队或丢弃，写入的值同时作为最后已知值
+     *
+     * @param key   缓存键
+     * @param value 写入的值，删除时为 null
+     * @param call  写入逻辑
+     */
+    public void write(String key, Object value, Runnable call) {
+        if (deferWhileReplaying(key, call)) {
+            remember(key, value);
+            return;
+        }
+        if (tryAcquire()) {
+            try {
+                call.run();
+                onSuccess();
+                remember(key, value);
+                return;
+            } catch (RedisException e) {
+                onFailure(e);
+            } catch (RuntimeException e) {
+                onSuccess();
+                throw e;
+            }
+        }
+        remember(key, value);
+        degrade(key, call);
+    }
+
+    /**
+     * 执行批量写操作，熔断或 Redis 异常时按降级策略排队或丢弃
+     *
+     * @param keys    缓存键集合
+     * @param valueOf 根据键获取写入的值，删除时返回 null
+     * @param call    写入逻辑
+     */
+    public void writeAll(Collection<String> keys, Function<String, Object> valueOf, Runnable call) {
+        if (deferWhileReplaying("#batch:" + writeSequence.incrementAndGet(), call)) {
+            keys.forEach(key -> remember(key, valueOf.apply(key)));
+            return;
+        }
+        if (tryAcquire()) {
+            try {
+                call.run();
+                onSuccess();
+                keys.forEach(key -> remember(key, valueOf.apply(key)));
+                return;
+            } catch (RedisException e) {
+                onFailure(e);
+            } catch (RuntimeException e) {
+                onSuccess();
+                throw e;
+            }
+        }
+        keys.forEach(key -> remember(key, valueOf.apply(key)));
+        degrade("#batch:" + writeSequence.incrementAndGet(), call);
+    }
+
+    /**
+     * 执行无法降级的操作，熔断时直接抛出 {@link CacheUnavailableException}
+     *
+     * @param call 操作逻辑
+     * @return 操作结果
+     */
+    public <T> T execute(Supplier<T> call) {
+        if (!tryAcquire()) {
+            throw new CacheUnavailableException("Redis circuit breaker is " + state.get().getCode());
+        }
+        try {
+            T result = call.get();
+            onSuccess();
+            return result;
+        } catch (RedisException e) {
+            onFailure(e);
+            throw e;
+        } catch (RuntimeException e) {
+            onSuccess();
+            throw e;
+        }
+    }
+
+    /**
+     * 熔断器是否处于关闭状态
+     */
+    public boolean isClosed() {
+        return state.get() == CircuitState.CLOSED;
+    }
+
+    public CircuitState getState() {
+        return state.get();
+    }
+
+    /**
+     * 进入指定状态的累计次数
+     */
+    public long getTransitions(CircuitState target) {
+        return transitions.get(target).sum();
+    }
+
+    /**
+     * 熔断期间被拒绝访问 Redis 的请求数
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * 降级读取命中最后已知值的次数
+     */
+    public long getFallbackHits() {
+        return fallbackHits.sum();
+    }
+
+    public long getQueuedWrites() {
+        return queuedWrites.sum();
+    }
+
+    public long getDroppedWrites() {
+        return droppedWrites.sum();
+    }
+
+    public long getReplayedWrites() {
+        return replayedWrites.sum();
+    }
+
+    /**
+     * 当前等待重放的写操作数量
+     */
+    public int getPendingWrites() {
+        synchronized (pendingWrites) {
+            return pendingWrites.size();
+        }
+    }
+
+    private boolean tryAcquire() {
+        CircuitState current = state.get();
+        if (current == CircuitState.CLOSED) {
+            return true;
+        }
+        if (current == CircuitState.OPEN) {
+            if (System.nanoTime() - openedAt < properties.getOpenDuration().toNanos()
+                    || !transitionTo(CircuitState.OPEN, CircuitState.HALF_OPEN)) {
+                rejected.increment();
+                return false;
+            }
+        }
+        if (probePermits.getAndDecrement() > 0) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    private void onSuccess() {
+        CircuitState current = state.get();
+        if (current == CircuitState.CLOSED) {
+            consecutiveFailures.set(0);
+        } else if (current == CircuitState.HALF_OPEN
+                && probeSuccesses.incrementAndGet() >= properties.getHalfOpenProbes()
+                && transitionTo(CircuitState.HALF_OPEN, CircuitState.CLOSED)) {
+            scheduler.execute(this::replay);
+        }
+    }
+
+    private void onFailure(RedisException e) {
+        CircuitState current = state.get();
+        if (current == CircuitState.HALF_OPEN) {
+            transitionTo(CircuitState.HALF_OPEN, CircuitState.OPEN);
+        } else if (current == CircuitState.CLOSED
+                && consecutiveFailures.incrementAndGet() >= properties.getFailureThreshold()
+                && transitionTo(CircuitState.CLOSED, CircuitState.OPEN)) {
+            LogUtils.error("Redis 连续失败 {} 次, 熔断器打开", e, consecutiveFailures.get());
+        }
+    }
+
+    private boolean transitionTo(CircuitState expected, CircuitState target) {
+        if (target == CircuitState.OPEN) {
+            // 先记录打开时间，避免其他线程看到 OPEN 状态时使用旧的时间立即进入半开
+            openedAt = System.nanoTime();
+        }
+        if (!state.compareAndSet(expected, target)) {
+            return false;
+        }
+        if (target == CircuitState.HALF_OPEN) {
+            probeSuccesses.set(0);
+            probePermits.set(Math.max(1, properties.getHalfOpenProbes()));
+        } else if (target == CircuitState.CLOSED) {
+            consecutiveFailures.set(0);
+        }
+        transitions.get(target).increment();
+        LogUtils.warn("Redis 熔断器状态变更: {} -> {}", expected.getDescription(), target.getDescription());
+        return true;
+    }
+
+    /**
+     * 打开期间没有请求时由后台线程探测 Redis 是否恢复
+     */
+    private void probe() {
+        if (state.get() == CircuitState.CLOSED) {
+            if (getPendingWrites() > 0) {
+                replay();
+            }
+            return;
+        }
+        while (state.get() != CircuitState.CLOSED && tryAcquire()) {
+            try {
+                redissonClient.getBucket(PROBE_KEY).isExists();
+                onSuccess();
+            } catch (RedisException e) {
+                onFailure(e);
+                return;
+            }
+        }
+    }
+
+    private void replay() {
+        if (!replaying.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            replayPending();
+        } finally {
+            replaying.set(false);
+        }
+    }
+
+    private void replayPending() {
+        while (state.get() == CircuitState.CLOSED) {
+            Map.Entry<String, Runnable> next;
+            synchronized (pendingWrites) {
+                Iterator<Map.Entry<String, Runnable>> iterator = pendingWrites.entrySet().iterator();
+                if (!iterator.hasNext()) {
+                    return;
+                }
+                next = iterator.next();
+                iterator.remove();
+            }
+            try {
+                next.getValue().run();
+                replayedWrites.increment();
+            } catch (RedisException e) {
+                synchronized (pendingWrites) {
+                    // 重放期间同一个键可能有更新的写入
+                    pendingWrites.putIfAbsent(next.getKey(), next.getValue());
+                }
+                onFailure(e);
+                return;
+            } catch (RuntimeException e) {
+                LogUtils.error("重放缓存写操作失败, key: {}", e, next.getKey());
+            }
+        }
+    }
+
+    /**
+     * 队列未重放完时写操作也进入队列，保证排队的旧写入不会在更新的直接写入之后执行；
+     * 队列已满且无法合并时丢弃该写操作，而不是绕过队列直接写入
+     *
+     * @return 是否已由队列处理（进入队列或被丢弃），队列为空且未在重放时返回 false，由调用方直接写入
+     */
+    private boolean deferWhileReplaying(String key, Runnable call) {
+        synchronized (pendingWrites) {
+            if (pendingWrites.isEmpty() && !replaying.get()) {
+                return false;
+            }
+            if (pendingWrites.remove(key) == null && pendingWrites.size() >= properties.getWriteQueueCapacity()) {
+                droppedWrites.increment();
+                return true;
+            }
+            pendingWrites.put(key, call);
+        }
+        queuedWrites.increment();
+        if (state.get() == CircuitState.CLOSED) {
+            scheduler.execute(this::replay);
+        }
+        return true;
+    }
+
+    private void degrade(String key, Runnable call) {
+        if (properties.getWritePolicy() == WriteFallbackPolicy.DROP) {
+            droppedWrites.increment();
+            return;
+        }
+        synchronized (pendingWrites) {
+            if (pendingWrites.remove(key) == null && pendingWrites.size() >= properties.getWriteQueueCapacity()) {
+                droppedWrites.increment();
+                return;
+            }
+            pendingWrites.put(key, call);
+        }
+        queuedWrites.increment();
+    }
+
+    private void remember(String key, Object value) {
+        if (value != null) {
+            fallback.put(key, value);
+        } else {
+            fallback.invalidate(key);
+        }
+    }
+
+    private Object fallback(String key) {
+        Object value = fallback.getIfPresent(key);
+        if (value != null) {
+            fallbackHits.increment();
+        }
+        return value;
+    }
+
+    private Map<String, Object> fallback(Collection<String> keys) {
+        Map<String, Object> values = fallback.getAllPresent(keys);
+        if (!values.isEmpty()) {
+            fallbackHits.add(values.size());
+        }
+        return new LinkedHashMap<>(values);
+    }
+
+}
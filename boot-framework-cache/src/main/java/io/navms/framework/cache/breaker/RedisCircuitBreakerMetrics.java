@@ -0,0 +1,63 @@
+package io.navms.framework.cache.breaker;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.navms.framework.cache.enums.CircuitState;
+import org.springframework.lang.NonNull;
+
+/**
+ * Redis 熔断器指标，导出当前状态、状态变更次数、拒绝与降级次数及写操作排队情况
+ *
+ * @author navms
+ */
+public class RedisCircuitBreakerMetrics implements MeterBinder {
+
+    private final RedisCircuitBreaker circuitBreaker;
+
+    public RedisCircuitBreakerMetrics(RedisCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        for (CircuitState state : CircuitState.values()) {
+            Gauge.builder("boot.framework.cache.breaker.state", circuitBreaker,
+                            breaker -> breaker.getState() == state ? 1 : 0)
+                    .tag("state", state.getCode())
+                    .description("熔断器当前是否处于该状态")
+                    .register(registry);
+            FunctionCounter.builder("boot.framework.cache.breaker.transitions", circuitBreaker,
+                            breaker -> breaker.getTransitions(state))
+                    .tag("state", state.getCode())
+                    .description("熔断器进入该状态的次数")
+                    .register(registry);
+        }
+        FunctionCounter.builder("boot.framework.cache.breaker.rejected", circuitBreaker,
+                        RedisCircuitBreaker::getRejected)
+                .description("熔断期间未访问 Redis 的请求数")
+                .register(registry);
+        FunctionCounter.builder("boot.framework.cache.breaker.fallback", circuitBreaker,
+                        RedisCircuitBreaker::getFallbackHits)
+                .description("降级读取命中最后已知值的次数")
+                .register(registry);
+        FunctionCounter.builder("boot.framework.cache.breaker.writes.queued", circuitBreaker,
+                        RedisCircuitBreaker::getQueuedWrites)
+                .description("排队等待重放的写操作数")
+                .register(registry);
+        FunctionCounter.builder("boot.framework.cache.breaker.writes.dropped", circuitBreaker,
+                        RedisCircuitBreaker::getDroppedWrites)
+                .description("被丢弃的写操作数")
+                .register(registry);
+        FunctionCounter.builder("boot.framework.cache.breaker.writes.replayed", circuitBreaker,
+                        RedisCircuitBreaker::getReplayedWrites)
+                .description("恢复后重放成功的写操作数")
+                .register(registry);
+        Gauge.builder("boot.framework.cache.breaker.writes.pending", circuitBreaker,
+                        RedisCircuitBreaker::getPendingWrites)
+                .description("当前等待重放的写操作数")
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,171 @@
+package io.navms.framework.cache.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import org.redisson.api.NodeType;
+import org.redisson.client.NettyHook;
+import org.redisson.client.protocol.CommandData;
+import org.redisson.client.protocol.CommandsData;
+import org.redisson.config.Config;
+import org.redisson.connection.ConnectionListener;
+import org.springframework.lang.NonNull;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 命令耗时与连接事件指标
+ * <p>
+ * 通过 {@link NettyHook} 在每个连接的 pipeline 末尾加入出站处理器，从命令写出到响应完成计时，
+ * 按命令名与结果打标签（管道批量提交记为 BATCH）；通过 {@link ConnectionListener} 统计节点连接建立与断开次数。
+ * 需要在 RedissonClient 创建前调用 {@link #install(Config)}，原有的 hook 与 listener 会继续被调用
+ *
+ * @author navms
+ */
+public class RedisCommandMetrics implements NettyHook, ConnectionListener, MeterBinder {
+
+    private static final String COMMAND = "boot.framework.redis.command";
+    private static final String CONNECTION = "boot.framework.redis.connection";
+    private static final String BATCH = "BATCH";
+
+    private final ChannelHandler handler = new CommandTimingHandler();
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    private volatile MeterRegistry registry;
+
+    private NettyHook delegateHook;
+
+    private ConnectionListener delegateListener;
+
+    /**
+     * 注册到 Redisson 配置
+     *
+     * @param config Redisson 配置
+     */
+    public void install(Config config) {
+        if (config.getNettyHook() != this) {
+            delegateHook = config.getNettyHook();
+            config.setNettyHook(this);
+        }
+        if (config.getConnectionListener() != this) {
+            delegateListener = config.getConnectionListener();
+            config.setConnectionListener(this);
+        }
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void afterBoostrapInitialization(Bootstrap bootstrap) {
+        if (delegateHook != null) {
+            delegateHook.afterBoostrapInitialization(bootstrap);
+        }
+    }
+
+    @Override
+    public void afterChannelInitialization(Channel channel) {
+        if (delegateHook != null) {
+            delegateHook.afterChannelInitialization(channel);
+        }
+        channel.pipeline().addLast(handler);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void onConnect(InetSocketAddress address) {
+        if (delegateListener != null) {
+            delegateListener.onConnect(address);
+        }
+    }
+
+    @Override
+    public void onConnect(InetSocketAddress address, NodeType nodeType) {
+        if (delegateListener != null) {
+            delegateListener.onConnect(address, nodeType);
+        }
+        recordConnection("connect", nodeType);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void onDisconnect(InetSocketAddress address) {
+        if (delegateListener != null) {
+            delegateListener.onDisconnect(address);
+        }
+    }
+
+    @Override
+    public void onDisconnect(InetSocketAddress address, NodeType nodeType) {
+        if (delegateListener != null) {
+            delegateListener.onDisconnect(address, nodeType);
+        }
+        recordConnection("disconnect", nodeType);
+    }
+
+    private void recordConnection(String event, NodeType nodeType) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return;
+        }
+        Counter.builder(CONNECTION)
+                .description("Redis 节点连接建立与断开次数")
+                .tag("event", event)
+                .tag("node", nodeType != null ? nodeType.name().toLowerCase() : "unknown")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void recordCommand(String command, boolean success, long nanos) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return;
+        }
+        String result = success ? "success" : "failure";
+        timers.computeIfAbsent(command + ':' + result, k -> Timer.builder(COMMAND)
+                        .description("Redis 命令从写出到响应完成的耗时")
+                        .tag("command", command)
+                        .tag("result", result)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 出站计时处理器，所有连接共享
+     */
+    @ChannelHandler.Sharable
+    private class CommandTimingHandler extends ChannelOutboundHandlerAdapter {
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+            if (registry != null) {
+                long start = System.nanoTime();
+                if (msg instanceof CommandData<?, ?> command) {
+                    String name = command.getCommand().getName();
+                    command.getPromise().whenComplete((result, error) ->
+                            recordCommand(name, error == null, System.nanoTime() - start));
+                } else if (msg instanceof CommandsData commands) {
+                    commands.getPromise().whenComplete((result, error) ->
+                            recordCommand(BATCH, error == null, System.nanoTime() - start));
+                }
+            }
+            super.write(ctx, msg, promise);
+        }
+
+    }
+
+}
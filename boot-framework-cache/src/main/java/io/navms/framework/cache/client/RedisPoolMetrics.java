@@ -0,0 +1,94 @@
+package io.navms.framework.cache.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.navms.framework.common.base.log.LogUtils;
+import org.redisson.Redisson;
+import org.redisson.api.NodeType;
+import org.redisson.api.RedissonClient;
+import org.redisson.connection.ClientConnectionsEntry;
+import org.redisson.connection.ConnectionManager;
+import org.redisson.connection.ConnectionsHolder;
+import org.redisson.connection.MasterSlaveEntry;
+import org.springframework.lang.NonNull;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Redisson 连接池指标，按主从节点类型汇总所有节点的已建立连接数、剩余可用容量与等待获取连接的请求数
+ * <p>
+ * 依赖 Redisson 内部 API，升级 Redisson 后内部 API 不兼容时只打印告警并跳过注册，不影响应用启动
+ *
+ * @author navms
+ */
+public class RedisPoolMetrics implements MeterBinder {
+
+    private static final String POOL = "boot.framework.redis.pool";
+
+    private final ConnectionManager connectionManager;
+
+    public RedisPoolMetrics(RedissonClient redissonClient) {
+        this.connectionManager = connectionManagerOf(redissonClient);
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        if (connectionManager == null) {
+            return;
+        }
+        try {
+            // 先采集一次，内部 API 不兼容时在注册前失败
+            total(NodeType.MASTER, holder -> holder.getFreeConnectionsCounter().queueSize());
+            for (NodeType nodeType : new NodeType[]{NodeType.MASTER, NodeType.SLAVE}) {
+                String node = nodeType.name().toLowerCase();
+                register(registry, POOL + ".connections", "已建立的连接数", node,
+                        nodeType, holder -> holder.getAllConnections().size());
+                register(registry, POOL + ".available", "连接池剩余可用容量", node,
+                        nodeType, holder -> holder.getFreeConnectionsCounter().getCounter());
+                register(registry, POOL + ".pending", "等待获取连接的请求数", node,
+                        nodeType, holder -> holder.getFreeConnectionsCounter().queueSize());
+            }
+        } catch (LinkageError e) {
+            LogUtils.warn("Redisson 内部 API 不兼容, 跳过连接池指标注册", e);
+        }
+    }
+
+    private static ConnectionManager connectionManagerOf(RedissonClient redissonClient) {
+        try {
+            return redissonClient instanceof Redisson redisson ? redisson.getConnectionManager() : null;
+        } catch (LinkageError e) {
+            LogUtils.warn("Redisson 内部 API 不兼容, 跳过连接池指标注册", e);
+            return null;
+        }
+    }
+
+    private void register(MeterRegistry registry, String name, String description, String node, NodeType nodeType,
+                          ToIntFunction<ConnectionsHolder<?>> metric) {
+        Gauge.builder(name, this, metrics -> metrics.sum(nodeType, metric))
+                .description(description)
+                .tag("node", node)
+                .register(registry);
+    }
+
+    private double sum(NodeType nodeType, ToIntFunction<ConnectionsHolder<?>> metric) {
+        try {
+            return total(nodeType, metric);
+        } catch (LinkageError e) {
+            return Double.NaN;
+        }
+    }
+
+    private int total(NodeType nodeType, ToIntFunction<ConnectionsHolder<?>> metric) {
+        int total = 0;
+        for (MasterSlaveEntry entry : connectionManager.getEntrySet()) {
+            for (ClientConnectionsEntry client : entry.getAllEntries()) {
+                if (client.getNodeType() == nodeType) {
+                    total += metric.applyAsInt(client.getConnectionsHolder());
+                }
+            }
+        }
+        return total;
+    }
+
+}
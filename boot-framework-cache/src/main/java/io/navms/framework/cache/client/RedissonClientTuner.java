@@ -0,0 +1,129 @@
+package io.navms.framework.cache.client;
+
+import io.navms.framework.cache.config.CacheProperties;
+import io.navms.framework.cache.enums.ConnectionProfile;
+import io.navms.framework.common.base.log.LogUtils;
+import org.redisson.config.BaseConfig;
+import org.redisson.config.BaseMasterSlaveServersConfig;
+import org.redisson.config.ClusterServersConfig;
+import org.redisson.config.Config;
+import org.redisson.config.ReadMode;
+import org.redisson.config.SentinelServersConfig;
+import org.redisson.config.SingleServerConfig;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Redisson 连接调优
+ * <p>
+ * 按 {@link ConnectionProfile} 预设与显式配置调整连接池、超时、心跳、Netty 线程、读模式与拓扑扫描间隔，
+ * 显式配置优先于预设。仅支持单机、集群与哨兵模式，其余模式只调整全局线程数
+ *
+ * @author navms
+ */
+public final class RedissonClientTuner {
+
+    private static final Map<ConnectionProfile, Preset> PRESETS = new EnumMap<>(ConnectionProfile.class);
+
+    static {
+        int processors = Runtime.getRuntime().availableProcessors();
+        PRESETS.put(ConnectionProfile.DEFAULT, new Preset(null, null, null, null, null, null,
+                null, null, null, null, null, null, null));
+        PRESETS.put(ConnectionProfile.LATENCY, new Preset(32, null, 64, 64, 64, 64,
+                Duration.ofSeconds(10), Duration.ofSeconds(1), Duration.ofSeconds(2), 1, Duration.ofMillis(100),
+                ReadMode.MASTER, Duration.ofSeconds(1)));
+        PRESETS.put(ConnectionProfile.THROUGHPUT, new Preset(Math.max(64, processors * 2), Math.max(16, processors * 2),
+                128, 32, 128, 32, Duration.ofSeconds(30), Duration.ofSeconds(5), Duration.ofSeconds(10), 3,
+                Duration.ofSeconds(1), ReadMode.MASTER, Duration.ofSeconds(5)));
+        PRESETS.put(ConnectionProfile.READ_FROM_REPLICA, new Preset(null, null, 32, 8, 128, 32,
+                Duration.ofSeconds(10), null, null, null, null, ReadMode.SLAVE, Duration.ofSeconds(2)));
+    }
+
+    private RedissonClientTuner() {
+    }
+
+    /**
+     * 将预设与显式配置应用到 Redisson 配置
+     *
+     * @param config     Redisson 配置
+     * @param properties 连接调优配置
+     */
+    public static void tune(Config config, CacheProperties.ClientProperties properties) {
+        ConnectionProfile profile = properties.getProfile() != null ? properties.getProfile() : ConnectionProfile.DEFAULT;
+        Preset preset = PRESETS.get(profile);
+
+        apply(pick(properties.getNettyThreads(), preset.nettyThreads()), config::setNettyThreads);
+        apply(pick(properties.getThreads(), preset.threads()), config::setThreads);
+
+        if (config.isSingleConfig()) {
+            SingleServerConfig single = config.useSingleServer();
+            tuneBase(single, properties, preset);
+            apply(pick(properties.getConnectionPoolSize(), preset.connectionPoolSize()), single::setConnectionPoolSize);
+            apply(pick(properties.getConnectionMinimumIdleSize(), preset.connectionMinimumIdleSize()),
+                    single::setConnectionMinimumIdleSize);
+        } else if (config.isClusterConfig()) {
+            ClusterServersConfig cluster = config.useClusterServers();
+            tuneMasterSlave(cluster, properties, preset);
+            apply(millis(pick(properties.getScanInterval(), preset.scanInterval())), cluster::setScanInterval);
+        } else if (config.isSentinelConfig()) {
+            SentinelServersConfig sentinel = config.useSentinelServers();
+            tuneMasterSlave(sentinel, properties, preset);
+            apply(millis(pick(properties.getScanInterval(), preset.scanInterval())), sentinel::setScanInterval);
+        } else {
+            LogUtils.warn("Redisson 连接调优仅支持单机、集群与哨兵模式, 已跳过连接参数");
+            return;
+        }
+        LogUtils.info("Redisson 连接调优预设: {}", profile.getDescription());
+    }
+
+    private static void tuneMasterSlave(BaseMasterSlaveServersConfig<?> config,
+                                        CacheProperties.ClientProperties properties, Preset preset) {
+        tuneBase(config, properties, preset);
+        apply(pick(properties.getConnectionPoolSize(), preset.connectionPoolSize()),
+                config::setMasterConnectionPoolSize);
+        apply(pick(properties.getConnectionMinimumIdleSize(), preset.connectionMinimumIdleSize()),
+                config::setMasterConnectionMinimumIdleSize);
+        apply(pick(properties.getSlaveConnectionPoolSize(), preset.slaveConnectionPoolSize()),
+                config::setSlaveConnectionPoolSize);
+        apply(pick(properties.getSlaveConnectionMinimumIdleSize(), preset.slaveConnectionMinimumIdleSize()),
+                config::setSlaveConnectionMinimumIdleSize);
+        apply(pick(properties.getReadMode(), preset.readMode()), config::setReadMode);
+    }
+
+    private static void tuneBase(BaseConfig<?> config, CacheProperties.ClientProperties properties, Preset preset) {
+        apply(millis(pick(properties.getPingConnectionInterval(), preset.pingConnectionInterval())),
+                config::setPingConnectionInterval);
+        apply(millis(pick(properties.getTimeout(), preset.timeout())), config::setTimeout);
+        apply(millis(pick(properties.getConnectTimeout(), preset.connectTimeout())), config::setConnectTimeout);
+        apply(pick(properties.getRetryAttempts(), preset.retryAttempts()), config::setRetryAttempts);
+        apply(millis(pick(properties.getRetryInterval(), preset.retryInterval())), config::setRetryInterval);
+    }
+
+    private static <T> T pick(T configured, T preset) {
+        return configured != null ? configured : preset;
+    }
+
+    private static Integer millis(Duration duration) {
+        return duration != null ? (int) Math.min(Integer.MAX_VALUE, duration.toMillis()) : null;
+    }
+
+    private static <T> void apply(T value, Consumer<T> setter) {
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+
+    /**
+     * 预设参数，为 null 时不调整
+     */
+    private record Preset(Integer nettyThreads, Integer threads,
+                          Integer connectionPoolSize, Integer connectionMinimumIdleSize,
+                          Integer slaveConnectionPoolSize, Integer slaveConnectionMinimumIdleSize,
+                          Duration pingConnectionInterval, Duration timeout, Duration connectTimeout,
+                          Integer retryAttempts, Duration retryInterval, ReadMode readMode, Duration scanInterval) {
+    }
+
+}
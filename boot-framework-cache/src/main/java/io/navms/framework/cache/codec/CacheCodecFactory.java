@@ -0,0 +1,54 @@
+package io.navms.framework.cache.codec;
+
+import io.navms.framework.cache.config.CacheProperties;
+import io.navms.framework.cache.enums.CompressionType;
+import org.redisson.client.codec.Codec;
+import org.redisson.codec.FuryCodec;
+import org.redisson.codec.JsonJacksonCodec;
+import org.redisson.codec.Kryo5Codec;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 缓存编解码器工厂
+ *
+ * @author navms
+ */
+public final class CacheCodecFactory {
+
+    private CacheCodecFactory() {
+    }
+
+    /**
+     * 根据配置创建编解码器
+     *
+     * @param properties 编解码器配置
+     * @return 编解码器
+     */
+    public static Codec create(CacheProperties.CodecProperties properties) {
+        Codec codec = switch (properties.getType()) {
+            case JSON_JACKSON -> new JsonJacksonCodec();
+            case FASTJSON2_JSONB -> new Fastjson2JsonbCodec(properties.getAutoTypeAccept());
+            case KRYO -> new Kryo5Codec();
+            case FURY -> {
+                requireClass("org.apache.fury.Fury", "org.apache.fury:fury-core");
+                yield new FuryCodec();
+            }
+        };
+
+        CompressionType compression = properties.getCompression();
+        if (compression == null || compression == CompressionType.NONE) {
+            return codec;
+        }
+        if (compression == CompressionType.LZ4) {
+            requireClass("net.jpountz.lz4.LZ4Factory", "org.lz4:lz4-java");
+        }
+        return new CompressionCodec(codec, compression, properties.getCompressionThreshold());
+    }
+
+    private static void requireClass(String className, String artifact) {
+        if (!ClassUtils.isPresent(className, CacheCodecFactory.class.getClassLoader())) {
+            throw new IllegalStateException("缺少依赖 " + artifact + "，请在项目中引入后再启用对应的编解码配置");
+        }
+    }
+
+}
@@ -0,0 +1,221 @@
+package io.navms.framework.cache.codec;
+
+import io.navms.framework.cache.enums.CompressionType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 按阈值压缩的 Redisson 编解码器包装
+ * <p>
+ * 委托内部编解码器完成序列化，编码结果超过阈值时再压缩。每个值以 1 字节标记开头：
+ * 0 表示未压缩，1 表示已压缩（随后 4 字节为原始长度）。Map 的键不压缩，保证哈希字段查找稳定
+ *
+ * @author navms
+ */
+public class CompressionCodec extends BaseCodec {
+
+    private static final byte RAW = 0;
+
+    private static final byte COMPRESSED = 1;
+
+    private final Codec innerCodec;
+
+    private final CompressionType compressionType;
+
+    private final int threshold;
+
+    private final Compressor compressor;
+
+    private final Encoder encoder;
+
+    private final Decoder<Object> decoder;
+
+    private final Encoder mapValueEncoder;
+
+    private final Decoder<Object> mapValueDecoder;
+
+    /**
+     * @param innerCodec      实际完成序列化的编解码器
+     * @param compressionType 压缩算法
+     * @param threshold       压缩阈值（字节）
+     */
+    public CompressionCodec(Codec innerCodec, CompressionType compressionType, int threshold) {
+        this.innerCodec = innerCodec;
+        this.compressionType = compressionType;
+        this.threshold = threshold;
+        this.compressor = compressionType == CompressionType.LZ4 ? new Lz4Compressor() : new DeflateCompressor();
+        this.encoder = wrap(innerCodec.getValueEncoder());
+        this.decoder = wrap(innerCodec.getValueDecoder());
+        this.mapValueEncoder = wrap(innerCodec.getMapValueEncoder());
+        this.mapValueDecoder = wrap(innerCodec.getMapValueDecoder());
+    }
+
+    /**
+     * 供 {@link BaseCodec#copy(ClassLoader, Codec)} 反射调用
+     */
+    public CompressionCodec(ClassLoader classLoader, CompressionCodec codec) throws ReflectiveOperationException {
+        this(copy(classLoader, codec.innerCodec), codec.compressionType, codec.threshold);
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return decoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return encoder;
+    }
+
+    @Override
+    public Decoder<Object> getMapValueDecoder() {
+        return mapValueDecoder;
+    }
+
+    @Override
+    public Encoder getMapValueEncoder() {
+        return mapValueEncoder;
+    }
+
+    @Override
+    public Decoder<Object> getMapKeyDecoder() {
+        return innerCodec.getMapKeyDecoder();
+    }
+
+    @Override
+    public Encoder getMapKeyEncoder() {
+        return innerCodec.getMapKeyEncoder();
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return innerCodec.getClassLoader();
+    }
+
+    private Encoder wrap(Encoder inner) {
+        return in -> {
+            ByteBuf encoded = inner.encode(in);
+            try {
+                int length = encoded.readableBytes();
+                if (length < threshold) {
+                    ByteBuf out = ByteBufAllocator.DEFAULT.buffer(length + 1);
+                    out.writeByte(RAW);
+                    out.writeBytes(encoded);
+                    return out;
+                }
+
+                byte[] compressed = compressor.compress(ByteBufUtil.getBytes(encoded));
+                ByteBuf out = ByteBufAllocator.DEFAULT.buffer(compressed.length + 5);
+                out.writeByte(COMPRESSED);
+                out.writeInt(length);
+                out.writeBytes(compressed);
+                return out;
+            } finally {
+                encoded.release();
+            }
+        };
+    }
+
+    private Decoder<Object> wrap(Decoder<Object> inner) {
+        return (buf, state) -> {
+            byte marker = buf.readByte();
+            if (marker == RAW) {
+                return inner.decode(buf, state);
+            }
+
+            int length = buf.readInt();
+            byte[] compressed = new byte[buf.readableBytes()];
+            buf.readBytes(compressed);
+            ByteBuf raw = Unpooled.wrappedBuffer(compressor.decompress(compressed, length));
+            try {
+                return inner.decode(raw, state);
+            } finally {
+                raw.release();
+            }
+        };
+    }
+
+    private interface Compressor {
+
+        byte[] compress(byte[] src);
+
+        byte[] decompress(byte[] src, int originalLength) throws IOException;
+
+    }
+
+    private static class DeflateCompressor implements Compressor {
+
+        @Override
+        public byte[] compress(byte[] src) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(src);
+                deflater.finish();
+                ByteArrayOutputStream out = new ByteArrayOutputStream(src.length / 2);
+                byte[] buffer = new byte[4096];
+                while (!deflater.finished()) {
+                    out.write(buffer, 0, deflater.deflate(buffer));
+                }
+                return out.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        public byte[] decompress(byte[] src, int originalLength) throws IOException {
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(src);
+                byte[] out = new byte[originalLength];
+                int offset = 0;
+                while (offset < originalLength) {
+                    int inflated = inflater.inflate(out, offset, originalLength - offset);
+                    // 数据被截断或损坏时无法继续产出，直接失败而不是空转
+                    if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new IOException("Deflate 数据不完整, 期望长度: " + originalLength + ", 实际长度: " + offset);
+                    }
+                    offset += inflated;
+                }
+                return out;
+            } catch (DataFormatException e) {
+                throw new IOException("Deflate 数据解压失败", e);
+            } finally {
+                inflater.end();
+            }
+        }
+    }
+
+    private static class Lz4Compressor implements Compressor {
+
+        private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+
+        private final LZ4FastDecompressor decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+
+        @Override
+        public byte[] compress(byte[] src) {
+            return compressor.compress(src);
+        }
+
+        @Override
+        public byte[] decompress(byte[] src, int originalLength) {
+            return decompressor.decompress(src, originalLength);
+        }
+    }
+
+}
@@ -1,11 +1,39 @@
 package io.navms.framework.cache.config;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.navms.framework.cache.aspect.CacheAspect;
+import io.navms.framework.cache.breaker.RedisCircuitBreaker;
+import io.navms.framework.cache.breaker.RedisCircuitBreakerMetrics;
+import io.navms.framework.cache.client.RedisCommandMetrics;
+import io.navms.framework.cache.client.RedisPoolMetrics;
+import io.navms.framework.cache.client.RedissonClientTuner;
+import io.navms.framework.cache.codec.CacheCodecFactory;
+import io.navms.framework.cache.counter.BufferedCounter;
+import io.navms.framework.cache.enums.CompressionType;
+import io.navms.framework.cache.hotkey.HotKeyDetector;
+import io.navms.framework.cache.hotkey.HotKeyEndpoint;
+import io.navms.framework.cache.lock.MicrometerLockMetrics;
+import io.navms.framework.cache.near.NearCache;
+import io.navms.framework.cache.near.NearCacheMetrics;
+import io.navms.framework.cache.pubsub.BatchingPublisher;
+import io.navms.framework.cache.pubsub.MessageDispatcher;
+import io.navms.framework.cache.pubsub.MessageDispatcherMetrics;
+import io.navms.framework.cache.utils.CacheUtil;
+import io.navms.framework.cache.warmup.CacheWarmUpRunner;
+import io.navms.framework.cache.warmup.CacheWarmer;
 import io.navms.framework.common.base.log.LogUtils;
-import org.redisson.codec.JsonJacksonCodec;
+import org.redisson.api.RedissonClient;
 import org.redisson.spring.starter.RedissonAutoConfigurationCustomizer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 
 /**
  * Cache 模块自动配置类
@@ -13,6 +41,7 @@ import org.springframework.context.annotation.Bean;
  * @author navms
  */
 @AutoConfiguration
+@EnableConfigurationProperties(CacheProperties.class)
 public class CacheAutoConfiguration {
 
     public CacheAutoConfiguration() {
@@ -21,11 +50,137 @@ public class CacheAutoConfiguration {
 
     @Bean
     @ConditionalOnClass(RedissonAutoConfigurationCustomizer.class)
-    public RedissonAutoConfigurationCustomizer redissonClientConfiguration() {
+    public RedissonAutoConfigurationCustomizer redissonClientConfiguration(CacheProperties properties,
+                                                                           ObjectProvider<RedisCommandMetrics> commandMetrics) {
         return config -> {
-            config.setCodec(new JsonJacksonCodec());
-            LogUtils.info("加载 Redisson 配置: {}, 使用 JSON 序列化", config);
+            CacheProperties.CodecProperties codec = properties.getCodec();
+            config.setCodec(CacheCodecFactory.create(codec));
+            RedissonClientTuner.tune(config, properties.getClient());
+            commandMetrics.ifAvailable(metrics -> metrics.install(config));
+            CompressionType compression = codec.getCompression() != null ? codec.getCompression() : CompressionType.NONE;
+            LogUtils.info("加载 Redisson 配置: {}, 使用 {} 序列化, 压缩: {}",
+                    config, codec.getType().getDescription(), compression.getDescription());
         };
     }
 
+    /**
+     * 容器关闭时销毁 CacheUtil 创建的本地缓存 Map，依赖 RedissonClient 以保证在其关闭前执行
+     */
+    @Bean
+    public DisposableBean localCachedMapDestroyer(RedissonClient redissonClient) {
+        return CacheUtil::destroyLocalCachedMaps;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "boot.framework.cache.near-cache", name = "enabled", havingValue = "true")
+    public NearCache nearCache(RedissonClient redissonClient, CacheProperties properties) {
+        return new NearCache(redissonClient, properties.getNearCache());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "boot.framework.cache.hot-key", name = "enabled", havingValue = "true")
+    public HotKeyDetector hotKeyDetector(CacheProperties properties) {
+        return new HotKeyDetector(properties.getHotKey());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "boot.framework.cache.buffered-counter", name = "enabled", havingValue = "true")
+    public BufferedCounter bufferedCounter(RedissonClient redissonClient, CacheProperties properties) {
+        return new BufferedCounter(redissonClient, properties.getBufferedCounter(), properties.getBatchSize());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "boot.framework.cache.pub-sub", name = "enabled", havingValue = "true")
+    public BatchingPublisher batchingPublisher(RedissonClient redissonClient, CacheProperties properties) {
+        return new BatchingPublisher(redissonClient, properties.getPubSub());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "boot.framework.cache.pub-sub", name = "enabled", havingValue = "true")
+    public MessageDispatcher messageDispatcher(RedissonClient redissonClient, CacheProperties properties) {
+        return new MessageDispatcher(redissonClient, properties.getPubSub());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "boot.framework.cache.circuit-breaker", name = "enabled", havingValue = "true")
+    public RedisCircuitBreaker redisCircuitBreaker(RedissonClient redissonClient, CacheProperties properties) {
+        return new RedisCircuitBreaker(redissonClient, properties.getCircuitBreaker());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "boot.framework.cache.warm-up", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    public CacheWarmUpRunner cacheWarmUpRunner(ObjectProvider<CacheWarmer> warmers, CacheProperties properties) {
+        return new CacheWarmUpRunner(warmers.orderedStream().toList(), properties.getWarmUp(), properties.getBatchSize());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.aspectj.lang.annotation.Aspect")
+    static class CacheAspectConfiguration {
+
+        @Bean
+        public CacheAspect cacheAspect() {
+            return new CacheAspect();
+        }
+
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    @ConditionalOnProperty(prefix = "boot.framework.cache.hot-key", name = "enabled", havingValue = "true")
+    static class HotKeyEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public HotKeyEndpoint hotKeyEndpoint(HotKeyDetector hotKeyDetector) {
+            return new HotKeyEndpoint(hotKeyDetector);
+        }
+
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    static class CacheMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnProperty(prefix = "boot.framework.cache.near-cache", name = "enabled", havingValue = "true")
+        public NearCacheMetrics nearCacheMetrics(NearCache nearCache) {
+            return new NearCacheMetrics(nearCache);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "boot.framework.cache.pub-sub", name = "enabled", havingValue = "true")
+        public MessageDispatcherMetrics messageDispatcherMetrics(MessageDispatcher messageDispatcher) {
+            return new MessageDispatcherMetrics(messageDispatcher);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "boot.framework.cache.circuit-breaker", name = "enabled", havingValue = "true")
+        public RedisCircuitBreakerMetrics redisCircuitBreakerMetrics(RedisCircuitBreaker redisCircuitBreaker) {
+            return new RedisCircuitBreakerMetrics(redisCircuitBreaker);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "boot.framework.cache.client", name = "metrics-enabled", havingValue = "true",
+                matchIfMissing = true)
+        public RedisCommandMetrics redisCommandMetrics() {
+            return new RedisCommandMetrics();
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "boot.framework.cache.client", name = "metrics-enabled", havingValue = "true",
+                matchIfMissing = true)
+        public RedisPoolMetrics redisPoolMetrics(RedissonClient redissonClient) {
+            return new RedisPoolMetrics(redissonClient);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "boot.framework.cache.lock", name = "metrics-enabled", havingValue = "true",
+                matchIfMissing = true)
+        public MicrometerLockMetrics lockMetrics(CacheProperties properties) {
+            return new MicrometerLockMetrics(properties.getLock().getMaxKeyPatterns());
+        }
+
+    }
+
 }
@@ -0,0 +1,487 @@
+package io.navms.framework.cache.config;
+
+import io.navms.framework.cache.enums.CodecType;
+import io.navms.framework.cache.enums.CompressionType;
+import io.navms.framework.cache.enums.ConnectionProfile;
+import io.navms.framework.cache.enums.WriteFallbackPolicy;
+import lombok.Data;
+import org.redisson.api.options.LocalCachedMapOptions;
+import org.redisson.config.ReadMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cache 模块配置属性
+ *
+ * @author navms
+ */
+@Data
+@ConfigurationProperties(prefix = "boot.framework.cache")
+public class CacheProperties {
+
+    /**
+     * 批量操作单次管道提交的最大键数量
+     */
+    private int batchSize = 500;
+
+    /**
+     * 游标扫描时每次 SCAN 的 COUNT 参数
+     */
+    private int scanCount = 1000;
+
+    /**
+     * 本地近端缓存（L1）配置
+     */
+    private NearCacheProperties nearCache = new NearCacheProperties();
+
+    /**
+     * 缓存加载（getOrLoad）配置
+     */
+    private LoaderProperties loader = new LoaderProperties();
+
+    /**
+     * 编解码器配置
+     */
+    private CodecProperties codec = new CodecProperties();
+
+    /**
+     * 带本地缓存的 Map（RLocalCachedMap）配置
+     */
+    private LocalCachedMapProperties localCachedMap = new LocalCachedMapProperties();
+
+    /**
+     * 分布式锁配置
+     */
+    private LockProperties lock = new LockProperties();
+
+    /**
+     * 热点键探测配置
+     */
+    private HotKeyProperties hotKey = new HotKeyProperties();
+
+    /**
+     * 本地聚合计数器配置
+     */
+    private BufferedCounterProperties bufferedCounter = new BufferedCounterProperties();
+
+    /**
+     * 发布订阅配置
+     */
+    private PubSubProperties pubSub = new PubSubProperties();
+
+    /**
+     * 缓存预热配置
+     */
+    private WarmUpProperties warmUp = new WarmUpProperties();
+
+    /**
+     * Redis 熔断配置
+     */
+    private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+
+    /**
+     * Redisson 连接调优配置
+     */
+    private ClientProperties client = new ClientProperties();
+
+    @Data
+    public static class NearCacheProperties {
+
+        /**
+         * 是否启用近端缓存
+         * 共享同一批缓存键的服务需保持一致，否则未启用的节点写入时不会广播失效消息
+         */
+        private boolean enabled = false;
+
+        /**
+         * 本地最大缓存条目数
+         */
+        private long maximumSize = 10000;
+
+        /**
+         * 本地最大存活时间，实际存活时间不会超过 Redis 中的剩余存活时间
+         */
+        private Duration timeToLive = Duration.ofMinutes(1);
+
+        /**
+         * 参与近端缓存的键前缀，为空时所有键均参与
+         */
+        private List<String> keyPrefixes = new ArrayList<>();
+
+        /**
+         * 跨节点失效通知的 Topic 名称
+         */
+        private String topic = "boot:framework:cache:near-cache:invalidation";
+
+    }
+
+    @Data
+    public static class LoaderProperties {
+
+        /**
+         * 空值缓存时间，用于防止缓存穿透，为 0 时不缓存空值
+         */
+        private Duration nullValueTtl = Duration.ofMinutes(1);
+
+        /**
+         * 提前刷新系数（XFetch 算法中的 beta），越大越倾向于提前刷新，为 0 时关闭提前刷新
+         */
+        private double earlyRefreshBeta = 1.0;
+
+        /**
+         * 分布式加载锁的等待时间，超时后直接加载；后台提前刷新不等待锁，其他节点正在刷新时放弃本次刷新
+         */
+        private Duration lockWaitTime = Duration.ofSeconds(3);
+
+        /**
+         * 后台提前刷新的线程数
+         */
+        private int refreshThreads = 4;
+
+        /**
+         * 分布式加载锁的键前缀
+         */
+        private String lockKeyPrefix = "cache:load:";
+
+    }
+
+    @Data
+    public static class CodecProperties {
+
+        /**
+         * 编解码器类型，切换后已有缓存数据将无法解码
+         */
+        private CodecType type = CodecType.JSON_JACKSON;
+
+        /**
+         * 反序列化允许的类名前缀，仅对 FASTJSON2_JSONB 生效
+         */
+        private List<String> autoTypeAccept = new ArrayList<>(List.of("io.navms"));
+
+        /**
+         * 压缩算法
+         */
+        private CompressionType compression = CompressionType.NONE;
+
+        /**
+         * 压缩阈值（字节），编码结果小于该值时不压缩
+         */
+        private int compressionThreshold = 4096;
+
+    }
+
+    @Data
+    public static class ClientProperties {
+
+        /**
+         * 调优预设，以下未配置的参数取预设值，预设为 DEFAULT 时保持 Redisson 默认值
+         */
+        private ConnectionProfile profile = ConnectionProfile.DEFAULT;
+
+        /**
+         * Netty 线程数
+         */
+        private Integer nettyThreads;
+
+        /**
+         * 回调与监听器线程数
+         */
+        private Integer threads;
+
+        /**
+         * 单机模式的连接池大小，集群与哨兵模式下为主节点连接池大小
+         */
+        private Integer connectionPoolSize;
+
+        /**
+         * 单机模式的最小空闲连接数，集群与哨兵模式下为主节点最小空闲连接数
+         */
+        private Integer connectionMinimumIdleSize;
+
+        /**
+         * 从节点连接池大小
+         */
+        private Integer slaveConnectionPoolSize;
+
+        /**
+         * 从节点最小空闲连接数
+         */
+        private Integer slaveConnectionMinimumIdleSize;
+
+        /**
+         * 连接心跳间隔
+         */
+        private Duration pingConnectionInterval;
+
+        /**
+         * 命令响应超时时间
+         */
+        private Duration timeout;
+
+        /**
+         * 建立连接超时时间
+         */
+        private Duration connectTimeout;
+
+        /**
+         * 命令失败重试次数
+         */
+        private Integer retryAttempts;
+
+        /**
+         * 命令失败重试间隔
+         */
+        private Duration retryInterval;
+
+        /**
+         * 读请求发往的节点，仅对集群与哨兵模式生效
+         */
+        private ReadMode readMode;
+
+        /**
+         * 集群与哨兵拓扑扫描间隔
+         */
+        private Duration scanInterval;
+
+        /**
+         * 是否导出命令耗时与连接池指标
+         */
+        private boolean metricsEnabled = true;
+
+    }
+
+    @Data
+    public static class CircuitBreakerProperties {
+
+        /**
+         * 是否启用 Redis 熔断
+         */
+        private boolean enabled = false;
+
+        /**
+         * 连续失败多少次后打开
+         */
+        private int failureThreshold = 5;
+
+        /**
+         * 打开后多久进入半开状态，也是无请求时后台探测的间隔
+         */
+        private Duration openDuration = Duration.ofSeconds(5);
+
+        /**
+         * 半开状态放行的探测请求数，全部成功后关闭
+         */
+        private int halfOpenProbes = 3;
+
+        /**
+         * 本地保存最后已知值的最大条目数
+         */
+        private long fallbackMaximumSize = 10000;
+
+        /**
+         * 最后已知值的保留时间
+         */
+        private Duration fallbackTtl = Duration.ofMinutes(10);
+
+        /**
+         * 不可用期间写操作的降级策略
+         */
+        private WriteFallbackPolicy writePolicy = WriteFallbackPolicy.QUEUE;
+
+        /**
+         * 排队写操作的最大数量，超过后丢弃新的写操作
+         */
+        private int writeQueueCapacity = 10000;
+
+    }
+
+    @Data
+    public static class WarmUpProperties {
+
+        /**
+         * 是否在启动完成后执行已注册的缓存预热器
+         */
+        private boolean enabled = true;
+
+        /**
+         * 同时写入的批次数
+         */
+        private int parallelism = 4;
+
+        /**
+         * 预热进度达到该百分比后才接收流量，0 表示不等待
+         */
+        private double readinessPercentage = 0;
+
+        /**
+         * 等待预热进度的最长时间，超过后不再阻塞
+         */
+        private Duration readinessTimeout = Duration.ofMinutes(5);
+
+    }
+
+    @Data
+    public static class PubSubProperties {
+
+        /**
+         * 是否启用合并发布与消息分发器
+         */
+        private boolean enabled = false;
+
+        /**
+         * 合并窗口，同一频道在窗口内的消息合并为一条发布
+         */
+        private Duration batchWindow = Duration.ofMillis(10);
+
+        /**
+         * 单个批次的最大消息数，达到后立即发送
+         */
+        private int maxBatchSize = 100;
+
+        /**
+         * 分发线程数，使用虚拟线程时不生效
+         */
+        private int dispatcherThreads = 4;
+
+        /**
+         * 是否使用虚拟线程分发
+         */
+        private boolean virtualThreads = false;
+
+        /**
+         * 最大积压消息数，超过后丢弃新消息
+         */
+        private int queueCapacity = 10000;
+
+    }
+
+    @Data
+    public static class BufferedCounterProperties {
+
+        /**
+         * 是否启用本地聚合计数器
+         */
+        private boolean enabled = false;
+
+        /**
+         * 刷新周期，即计数在 Redis 中的最大延迟，也是节点宕机时可能丢失的增量时间范围
+         */
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+    }
+
+    @Data
+    public static class HotKeyProperties {
+
+        /**
+         * 是否启用热点键探测与本地提升
+         */
+        private boolean enabled = false;
+
+        /**
+         * 热点阈值，估算访问次数（每个窗口衰减一半）达到该值时标记为热点
+         */
+        private long threshold = 1000;
+
+        /**
+         * 统计窗口，每个窗口结束时所有计数减半
+         */
+        private Duration window = Duration.ofSeconds(1);
+
+        /**
+         * 采样率，取值 (0, 1]，访问量很大时可调低以减少计数开销，估算值会按采样率放大
+         */
+        private double sampleRate = 1.0;
+
+        /**
+         * Count-Min Sketch 行数
+         */
+        private int sketchDepth = 4;
+
+        /**
+         * Count-Min Sketch 每行计数器个数
+         */
+        private int sketchWidth = 8192;
+
+        /**
+         * 同时跟踪的最大热点键数量
+         */
+        private long topK = 100;
+
+        /**
+         * 热点键本地副本的存活时间，同时也是其他节点写入后本节点可能读到旧值的最长时间
+         */
+        private Duration promotionTtl = Duration.ofSeconds(2);
+
+        /**
+         * 本地提升的最大条目数
+         */
+        private long promotionMaximumSize = 1000;
+
+    }
+
+    @Data
+    public static class LockProperties {
+
+        /**
+         * 是否导出锁等待、持有时间等 Micrometer 指标
+         */
+        private boolean metricsEnabled = true;
+
+        /**
+         * 指标中锁key模式标签的最大数量，超出后新出现的模式统一以 other 作为标签
+         */
+        private int maxKeyPatterns = 1000;
+
+        /**
+         * 慢持有日志阈值，持有锁的时间超过该值时打印告警日志，为 0 时关闭
+         */
+        private Duration slowHoldThreshold = Duration.ZERO;
+
+    }
+
+    @Data
+    public static class LocalCachedMapProperties {
+
+        /**
+         * 每个 Map 本地最大缓存条目数，为 0 时不限制
+         */
+        private int cacheSize = 10000;
+
+        /**
+         * 本地条目最大存活时间，为 0 时不过期
+         */
+        private Duration timeToLive = Duration.ofMinutes(10);
+
+        /**
+         * 本地条目最大空闲时间，为 0 时不过期
+         */
+        private Duration maxIdle = Duration.ZERO;
+
+        /**
+         * 本地缓存淘汰策略
+         */
+        private LocalCachedMapOptions.EvictionPolicy evictionPolicy = LocalCachedMapOptions.EvictionPolicy.LRU;
+
+        /**
+         * 写入后同步其他节点本地缓存的策略
+         */
+        private LocalCachedMapOptions.SyncStrategy syncStrategy = LocalCachedMapOptions.SyncStrategy.INVALIDATE;
+
+        /**
+         * 断线重连后的本地缓存处理策略，默认清空以避免读取到断线期间的过期数据
+         */
+        private LocalCachedMapOptions.ReconnectionStrategy reconnectionStrategy =
+                LocalCachedMapOptions.ReconnectionStrategy.CLEAR;
+
+        /**
+         * 实例数告警阈值，每个 mapKey 对应一个实例并持有本地缓存与订阅，超过后创建新实例时打印告警
+         */
+        private int maxInstances = 256;
+
+    }
+
+}
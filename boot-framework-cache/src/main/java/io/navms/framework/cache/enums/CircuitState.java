@@ -0,0 +1,33 @@
+package io.navms.framework.cache.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 熔断器状态枚举
+ *
+ * @author navms
+ */
+@Getter
+@AllArgsConstructor
+public enum CircuitState {
+
+    /**
+     * 关闭：请求正常访问 Redis
+     */
+    CLOSED("closed", "关闭"),
+
+    /**
+     * 打开：请求不再访问 Redis，直接降级
+     */
+    OPEN("open", "打开"),
+
+    /**
+     * 半开：放行少量探测请求，全部成功后关闭，任一失败重新打开
+     */
+    HALF_OPEN("half_open", "半开");
+
+    private final String code;
+    private final String description;
+
+}
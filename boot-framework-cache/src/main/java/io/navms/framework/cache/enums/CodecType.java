@@ -0,0 +1,43 @@
+package io.navms.framework.cache.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 缓存编解码器类型枚举
+ * 切换类型后已有缓存数据将无法解码，需清理或等待过期
+ *
+ * @author navms
+ */
+@Getter
+@AllArgsConstructor
+public enum CodecType {
+
+    /**
+     * Jackson JSON
+     * 特点：可读性好，但每个值都会写入类名，体积与 CPU 开销较大
+     */
+    JSON_JACKSON("json_jackson", "Jackson JSON"),
+
+    /**
+     * fastjson2 JSONB 二进制格式
+     * 特点：体积小、编解码快，反序列化的类型需在 autoTypeAccept 白名单内
+     */
+    FASTJSON2_JSONB("fastjson2_jsonb", "fastjson2 JSONB"),
+
+    /**
+     * Kryo 5 二进制格式
+     * 特点：体积小、编解码快，要求类结构在各节点间保持一致
+     */
+    KRYO("kryo", "Kryo 5"),
+
+    /**
+     * Apache Fury 二进制格式
+     * 特点：编解码最快，需自行引入 fury-core 依赖
+     */
+    FURY("fury", "Apache Fury");
+
+    private final String code;
+    private final String description;
+
+}
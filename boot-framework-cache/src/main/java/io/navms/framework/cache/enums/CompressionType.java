@@ -0,0 +1,35 @@
+package io.navms.framework.cache.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 缓存压缩算法枚举
+ *
+ * @author navms
+ */
+@Getter
+@AllArgsConstructor
+public enum CompressionType {
+
+    /**
+     * 不压缩
+     */
+    NONE("none", "不压缩"),
+
+    /**
+     * JDK Deflate
+     * 特点：无需额外依赖，压缩率较高但速度较慢
+     */
+    DEFLATE("deflate", "Deflate"),
+
+    /**
+     * LZ4
+     * 特点：压缩与解压速度极快，需自行引入 lz4-java 依赖
+     */
+    LZ4("lz4", "LZ4");
+
+    private final String code;
+    private final String description;
+
+}
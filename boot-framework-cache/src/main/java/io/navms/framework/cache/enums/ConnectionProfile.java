@@ -0,0 +1,38 @@
+package io.navms.framework.cache.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Redisson 连接调优预设枚举
+ *
+ * @author navms
+ */
+@Getter
+@AllArgsConstructor
+public enum ConnectionProfile {
+
+    /**
+     * 保持 Redisson 默认值，仅应用显式配置的参数
+     */
+    DEFAULT("default", "默认"),
+
+    /**
+     * 低延迟：预热较多空闲连接、缩短超时与重试间隔、加快拓扑扫描，故障时尽快失败或切换
+     */
+    LATENCY("latency", "低延迟"),
+
+    /**
+     * 高吞吐：加大连接池与 Netty 线程数，放宽超时，适合批量与管道操作较多的服务
+     */
+    THROUGHPUT("throughput", "高吞吐"),
+
+    /**
+     * 读写分离：读请求发往从节点，主节点连接池只承担写请求，仅对集群与哨兵模式生效
+     */
+    READ_FROM_REPLICA("read_from_replica", "从节点读");
+
+    private final String code;
+    private final String description;
+
+}
@@ -0,0 +1,28 @@
+package io.navms.framework.cache.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Redis 不可用时的写操作降级策略枚举
+ *
+ * @author navms
+ */
+@Getter
+@AllArgsConstructor
+public enum WriteFallbackPolicy {
+
+    /**
+     * 放入本地有界队列，恢复后按顺序重放，同一个键只保留最后一次写入
+     */
+    QUEUE("queue", "排队重放"),
+
+    /**
+     * 直接丢弃
+     */
+    DROP("drop", "丢弃");
+
+    private final String code;
+    private final String description;
+
+}
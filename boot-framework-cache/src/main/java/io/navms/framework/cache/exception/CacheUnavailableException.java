@@ -0,0 +1,24 @@
+package io.navms.framework.cache.exception;
+
+import io.navms.framework.common.base.exception.BaseException;
+
+import java.io.Serial;
+
+/**
+ * 缓存不可用异常，熔断器打开时无法降级的操作抛出
+ *
+ * @author navms
+ */
+public class CacheUnavailableException extends BaseException {
+
+    @Serial
+    private static final long serialVersionUID = -6204718355826103459L;
+
+    public CacheUnavailableException(String message) {
+        super(message);
+    }
+
+    public CacheUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
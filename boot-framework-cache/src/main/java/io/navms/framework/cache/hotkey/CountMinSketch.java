@@ -0,0 +1,145 @@
+package io.navms.framework.cache.hotkey;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 线程安全的 Count-Min Sketch
+ * <p>
+ * 以固定内存估算各键的访问次数，估算值只会偏大不会偏小，误差约为 总次数 * e / width。
+ * 各行下标由键的 64 位 MurmurHash3 拆成两个 32 位哈希后按 h1 + i * h2 计算，
+ * 32 位 {@link String#hashCode()} 相同的键不会在所有行上冲突
+ *
+ * @author navms
+ */
+class CountMinSketch {
+
+    private static final int MAX_DEPTH = 8;
+
+    private static final long C1 = 0x87C37B91114253D5L;
+
+    private static final long C2 = 0x4CF5AD432745937FL;
+
+    private final AtomicLongArray[] rows;
+
+    private final int mask;
+
+    /**
+     * @param depth 行数（哈希函数个数），最大为 8
+     * @param width 每行的计数器个数，向上取整为 2 的幂
+     */
+    CountMinSketch(int depth, int width) {
+        int rowCount = Math.max(1, Math.min(depth, MAX_DEPTH));
+        int columns = Integer.highestOneBit(Math.max(2, width - 1)) << 1;
+        this.rows = new AtomicLongArray[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            rows[i] = new AtomicLongArray(columns);
+        }
+        this.mask = columns - 1;
+    }
+
+    /**
+     * 累加计数并返回累加后的估算值
+     */
+    long increment(String key, long delta) {
+        long hash = hash64(key);
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < rows.length; i++) {
+            long count = rows[i].addAndGet(index(hash, i), delta);
+            min = Math.min(min, count);
+        }
+        return min;
+    }
+
+    /**
+     * 估算访问次数
+     */
+    long estimate(String key) {
+        long hash = hash64(key);
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < rows.length; i++) {
+            min = Math.min(min, rows[i].get(index(hash, i)));
+        }
+        return min;
+    }
+
+    /**
+     * 所有计数减半，使估算值随时间衰减，只反映最近的访问频率
+     */
+    void decay() {
+        for (AtomicLongArray row : rows) {
+            for (int i = 0; i < row.length(); i++) {
+                long count = row.get(i);
+                if (count > 0) {
+                    row.getAndAdd(i, -(count - (count >>> 1)));
+                }
+            }
+        }
+    }
+
+    private int index(long hash, int row) {
+        // h2 取奇数，列数为 2 的幂时各行下标互不相同
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return (h1 + row * h2) & mask;
+    }
+
+    /**
+     * 以 UTF-16LE 字节计算 MurmurHash3 x64_128，取前 64 位；按字符读取，不创建字节数组
+     */
+    static long hash64(String key) {
+        int length = key.length();
+        long h1 = 0;
+        long h2 = 0;
+        int offset = 0;
+        for (; offset + 8 <= length; offset += 8) {
+            h1 ^= mixK1(chars(key, offset, 4));
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52DCE729;
+            h2 ^= mixK2(chars(key, offset + 4, 4));
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495AB5;
+        }
+        int remaining = length - offset;
+        if (remaining > 4) {
+            h2 ^= mixK2(chars(key, offset + 4, remaining - 4));
+        }
+        if (remaining > 0) {
+            h1 ^= mixK1(chars(key, offset, Math.min(remaining, 4)));
+        }
+        h1 ^= length * 2L;
+        h2 ^= length * 2L;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        return h1 + h2;
+    }
+
+    private static long chars(String key, int offset, int count) {
+        long k = 0;
+        for (int i = 0; i < count; i++) {
+            k |= (long) key.charAt(offset + i) << (16 * i);
+        }
+        return k;
+    }
+
+    private static long mixK1(long k1) {
+        return Long.rotateLeft(k1 * C1, 31) * C2;
+    }
+
+    private static long mixK2(long k2) {
+        return Long.rotateLeft(k2 * C2, 33) * C1;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xFF51AFD7ED558CCDL;
+        k ^= k >>> 33;
+        k *= 0xC4CEB9FE1A85EC53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+}
@@ -0,0 +1,191 @@
+package io.navms.framework.cache.hotkey;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.navms.framework.cache.config.CacheProperties;
+import io.navms.framework.common.base.log.LogUtils;
+import org.redisson.client.codec.Codec;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 热点键探测器
+ * <p>
+ * 按采样率将键访问计入 Count-Min Sketch，计数每个统计窗口减半衰减。估算访问次数达到阈值的键被标记为热点，
+ * 其值在本地短暂缓存（提升），使热点流量由应用节点吸收而不是集中压向单个 Redis 分片。
+ * 提升的本地副本仅在本节点写入时失效，其他节点写入后最多在 promotionTtl 内读到旧值
+ *
+ * @author navms
+ */
+public class HotKeyDetector implements InitializingBean, DisposableBean {
+
+    private final CacheProperties.HotKeyProperties properties;
+
+    private final CountMinSketch sketch;
+
+    /**
+     * 当前热点键及其估算访问次数
+     */
+    private final Cache<String, Long> hotKeys;
+
+    /**
+     * 已提升到本地的热点键值
+     */
+    private final Cache<String, Promoted> promoted;
+
+    /**
+     * 失效版本号，用于丢弃与失效并发的回填结果
+     */
+    private final AtomicLong invalidationVersion = new AtomicLong();
+
+    private final double sampleRate;
+
+    private final long sampleWeight;
+
+    private ScheduledExecutorService scheduler;
+
+    public HotKeyDetector(CacheProperties.HotKeyProperties properties) {
+        this.properties = properties;
+        this.sketch = new CountMinSketch(properties.getSketchDepth(), properties.getSketchWidth());
+        this.sampleRate = Math.min(1.0, Math.max(0.0001, properties.getSampleRate()));
+        this.sampleWeight = Math.round(1.0 / sampleRate);
+        this.hotKeys = Caffeine.newBuilder()
+                .maximumSize(properties.getTopK())
+                .expireAfterWrite(properties.getWindow().multipliedBy(2))
+                .build();
+        this.promoted = Caffeine.newBuilder()
+                .maximumSize(properties.getPromotionMaximumSize())
+                .expireAfterWrite(properties.getPromotionTtl())
+                .build();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        long windowMillis = Math.max(1, properties.getWindow().toMillis());
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hot-key-decay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(sketch::decay, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+        LogUtils.info("热点键探测已启用, threshold: {}, window: {}, sampleRate: {}, promotionTtl: {}",
+                properties.getThreshold(), properties.getWindow(), sampleRate, properties.getPromotionTtl());
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        promoted.invalidateAll();
+    }
+
+    /**
+     * 记录一次访问
+     *
+     * @param key 缓存键
+     * @return 该键当前是否为热点
+     */
+    public boolean recordAccess(String key) {
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return hotKeys.getIfPresent(key) != null;
+        }
+
+        long estimate = sketch.increment(key, sampleWeight);
+        if (estimate >= properties.getThreshold()) {
+            if (hotKeys.getIfPresent(key) == null) {
+                LogUtils.info("发现热点键: {}, 估算访问次数: {}", key, estimate);
+            }
+            hotKeys.put(key, estimate);
+            return true;
+        }
+        return hotKeys.getIfPresent(key) != null;
+    }
+
+    /**
+     * 读取热点键的值，本地提升副本不存在时通过 loader 读取并提升
+     *
+     * @param key    缓存键
+     * @param codec  编解码器，为 null 时使用默认编解码器
+     * @param loader 读取 Redis 的逻辑
+     * @return 缓存值
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Codec codec, Supplier<T> loader) {
+        Promoted cached = promoted.getIfPresent(key);
+        if (cached != null && cached.codec() == codec) {
+            return (T) cached.value();
+        }
+
+        long version = invalidationVersion.get();
+        T value = loader.get();
+        if (value != null && version == invalidationVersion.get()) {
+            promoted.put(key, new Promoted(value, codec));
+        }
+        return value;
+    }
+
+    /**
+     * 失效本地提升副本
+     *
+     * @param key 缓存键
+     */
+    public void invalidate(String key) {
+        invalidationVersion.incrementAndGet();
+        promoted.invalidate(key);
+    }
+
+    /**
+     * 失效本地提升副本
+     *
+     * @param keys 缓存键集合
+     */
+    public void invalidate(Iterable<String> keys) {
+        invalidationVersion.incrementAndGet();
+        promoted.invalidateAll(keys);
+    }
+
+    /**
+     * 当前热点键，按估算访问次数降序排列
+     */
+    public List<HotKey> getHotKeys() {
+        return hotKeys.asMap().entrySet().stream()
+                .map(entry -> new HotKey(entry.getKey(), entry.getValue(),
+                        promoted.getIfPresent(entry.getKey()) != null))
+                .sorted(Comparator.comparingLong(HotKey::estimatedCount).reversed())
+                .toList();
+    }
+
+    /**
+     * 估算键的访问次数
+     *
+     * @param key 缓存键
+     * @return 估算访问次数
+     */
+    public long estimate(String key) {
+        return sketch.estimate(key);
+    }
+
+    private record Promoted(Object value, Codec codec) {
+    }
+
+    /**
+     * 热点键信息
+     *
+     * @param key            缓存键
+     * @param estimatedCount 估算访问次数（随窗口衰减）
+     * @param promoted       是否已提升到本地
+     */
+    public record HotKey(String key, long estimatedCount, boolean promoted) {
+    }
+
+}
@@ -0,0 +1,27 @@
+package io.navms.framework.cache.hotkey;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * 热点键 Actuator 端点
+ *
+ * @author navms
+ */
+@Endpoint(id = "hotkeys")
+public class HotKeyEndpoint {
+
+    private final HotKeyDetector detector;
+
+    public HotKeyEndpoint(HotKeyDetector detector) {
+        this.detector = detector;
+    }
+
+    @ReadOperation
+    public List<HotKeyDetector.HotKey> hotKeys() {
+        return detector.getHotKeys();
+    }
+
+}
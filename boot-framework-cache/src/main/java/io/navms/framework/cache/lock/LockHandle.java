@@ -0,0 +1,155 @@
+package io.navms.framework.cache.lock;
+
+import io.navms.framework.common.base.log.LogUtils;
+import org.redisson.api.RLock;
+
+/**
+ * 分布式锁句柄
+ * <p>
+ * 在本地记录加锁结果与加锁时间，释放时只发起一次解锁脚本调用，不再额外检查锁的持有者。
+ * 配合 try-with-resources 使用，需在加锁线程中关闭：
+ * <pre>{@code
+ * try (LockHandle handle = LockUtil.tryAcquire("order:1", 3, TimeUnit.SECONDS)) {
+ *     if (handle.isLocked()) {
+ *         // ...
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author navms
+ */
+public class LockHandle implements AutoCloseable {
+
+    private final String lockKey;
+
+    private final Runnable releaser;
+
+    private final long leaseTimeMillis;
+
+    private final boolean watchdog;
+
+    private final boolean multi;
+
+    private final long acquiredAt;
+
+    private boolean locked;
+
+    /**
+     * @param lockKey         锁key
+     * @param lock            锁对象
+     * @param leaseTimeMillis 锁定时间（毫秒），-1 表示由看门狗自动续期
+     * @param locked          是否加锁成功
+     */
+    public LockHandle(String lockKey, RLock lock, long leaseTimeMillis, boolean locked) {
+        this(lockKey, lock != null ? lock::unlock : null, leaseTimeMillis, locked);
+    }
+
+    /**
+     * @param lockKey         锁key
+     * @param releaser        释放逻辑，锁已不再持有时应抛出 {@link IllegalMonitorStateException}
+     * @param leaseTimeMillis 锁定时间（毫秒），-1 表示由看门狗自动续期
+     * @param locked          是否加锁成功
+     */
+    public LockHandle(String lockKey, Runnable releaser, long leaseTimeMillis, boolean locked) {
+        this(lockKey, releaser, leaseTimeMillis, leaseTimeMillis < 0, locked);
+    }
+
+    /**
+     * @param lockKey         锁key
+     * @param releaser        释放逻辑，锁已不再持有时应抛出 {@link IllegalMonitorStateException}
+     * @param leaseTimeMillis 锁定时间（毫秒），-1 表示不会自动过期
+     * @param watchdog        是否由看门狗自动续期，信号量许可等没有看门狗的锁传 false
+     * @param locked          是否加锁成功
+     */
+    public LockHandle(String lockKey, Runnable releaser, long leaseTimeMillis, boolean watchdog, boolean locked) {
+        this(lockKey, releaser, leaseTimeMillis, watchdog, false, locked);
+    }
+
+    private LockHandle(String lockKey, Runnable releaser, long leaseTimeMillis, boolean watchdog, boolean multi,
+                       boolean locked) {
+        this.lockKey = lockKey;
+        this.releaser = releaser;
+        this.leaseTimeMillis = leaseTimeMillis;
+        this.watchdog = watchdog;
+        this.multi = multi;
+        this.locked = locked;
+        this.acquiredAt = System.nanoTime();
+        if (locked) {
+            LockStatistics.INSTANCE.onAcquired(isWatchdogEnabled());
+        }
+    }
+
+    /**
+     * 创建联锁的句柄，由看门狗自动续期
+     *
+     * @param lockKey 锁key，为联锁中各锁key的列表
+     * @param lock    联锁对象
+     * @param locked  是否加锁成功
+     * @return 锁句柄
+     */
+    public static LockHandle ofMultiLock(String lockKey, RLock lock, boolean locked) {
+        return new LockHandle(lockKey, lock != null ? lock::unlock : null, -1, true, true, locked);
+    }
+
+    /**
+     * 锁key
+     */
+    public String getLockKey() {
+        return lockKey;
+    }
+
+    /**
+     * 是否为联锁
+     */
+    public boolean isMultiLock() {
+        return multi;
+    }
+
+    /**
+     * 是否持有锁（仅反映本地记录的状态，锁因租期到期被动释放时不会感知）
+     */
+    public boolean isLocked() {
+        return locked;
+    }
+
+    /**
+     * 是否由看门狗自动续期
+     */
+    public boolean isWatchdogEnabled() {
+        return watchdog;
+    }
+
+    /**
+     * 已持有锁的时间（毫秒），未加锁时返回 0
+     */
+    public long getHeldMillis() {
+        return locked ? (System.nanoTime() - acquiredAt) / 1_000_000 : 0;
+    }
+
+    /**
+     * 释放锁，重复调用或未加锁时不做任何操作
+     */
+    public void unlock() {
+        if (!locked) {
+            return;
+        }
+        locked = false;
+
+        long heldNanos = System.nanoTime() - acquiredAt;
+        try {
+            releaser.run();
+            LockStatistics.INSTANCE.onReleased(lockKey, multi, isWatchdogEnabled(), heldNanos);
+        } catch (IllegalMonitorStateException e) {
+            // 锁已因租期到期被释放，或被强制释放
+            LockStatistics.INSTANCE.onLost(lockKey, multi, heldNanos);
+            LogUtils.warn("Lock already released before unlock, lockKey: {}, heldMillis: {}",
+                    lockKey, heldNanos / 1_000_000);
+        }
+    }
+
+    @Override
+    public void close() {
+        unlock();
+    }
+
+}
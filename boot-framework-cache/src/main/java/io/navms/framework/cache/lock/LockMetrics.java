@@ -0,0 +1,47 @@
+package io.navms.framework.cache.lock;
+
+/**
+ * 分布式锁指标记录
+ *
+ * @author navms
+ */
+public interface LockMetrics {
+
+    /**
+     * 不记录任何指标
+     */
+    LockMetrics NOOP = new LockMetrics() {
+    };
+
+    /**
+     * 记录加锁等待时间
+     *
+     * @param lockKey  锁key，联锁为各锁key的列表
+     * @param multi    是否为联锁
+     * @param nanos    等待时间（纳秒）
+     * @param acquired 是否加锁成功
+     */
+    default void recordWait(String lockKey, boolean multi, long nanos, boolean acquired) {
+    }
+
+    /**
+     * 记录加锁失败（Redis 异常等，不包括等待超时）
+     *
+     * @param lockKey 锁key，联锁为各锁key的列表
+     * @param multi   是否为联锁
+     * @param error   异常
+     */
+    default void recordFailure(String lockKey, boolean multi, Throwable error) {
+    }
+
+    /**
+     * 记录持有锁的时间
+     *
+     * @param lockKey 锁key，联锁为各锁key的列表
+     * @param multi   是否为联锁
+     * @param nanos   持有时间（纳秒）
+     */
+    default void recordHold(String lockKey, boolean multi, long nanos) {
+    }
+
+}
@@ -0,0 +1,139 @@
+package io.navms.framework.cache.lock;
+
+import io.navms.framework.common.base.log.LogUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 分布式锁统计
+ * <p>
+ * Redisson 看门狗每隔 lockWatchdogTimeout / 3 续期一次，且不对外暴露续期事件，
+ * 因此续期次数按看门狗锁的持有时间估算。等待与持有时间同时转发给 {@link LockMetrics}
+ *
+ * @author navms
+ */
+public final class LockStatistics {
+
+    public static final LockStatistics INSTANCE = new LockStatistics();
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder released = new LongAdder();
+    private final LongAdder lost = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder watchdogAcquired = new LongAdder();
+    private final LongAdder watchdogHeldMillis = new LongAdder();
+    private final LongAdder estimatedRenewals = new LongAdder();
+
+    private volatile long renewalIntervalMillis = 30_000 / 3;
+
+    private volatile LockMetrics metrics = LockMetrics.NOOP;
+
+    private volatile long slowHoldThresholdNanos = 0;
+
+    private LockStatistics() {
+    }
+
+    /**
+     * 设置看门狗超时时间，用于估算续期次数
+     *
+     * @param lockWatchdogTimeout 看门狗超时时间（毫秒）
+     */
+    public void setLockWatchdogTimeout(long lockWatchdogTimeout) {
+        this.renewalIntervalMillis = Math.max(1, lockWatchdogTimeout / 3);
+    }
+
+    /**
+     * 设置指标记录器
+     */
+    public void setLockMetrics(LockMetrics metrics) {
+        this.metrics = metrics != null ? metrics : LockMetrics.NOOP;
+    }
+
+    /**
+     * 设置慢持有日志阈值，持有时间超过该值时打印告警日志，为 null 或 0 时关闭
+     */
+    public void setSlowHoldThreshold(Duration threshold) {
+        this.slowHoldThresholdNanos = threshold != null ? threshold.toNanos() : 0;
+    }
+
+    /**
+     * 记录加锁等待结果
+     */
+    public void onWait(String lockKey, boolean multi, long waitNanos, boolean acquired) {
+        if (!acquired) {
+            timeouts.increment();
+        }
+        metrics.recordWait(lockKey, multi, waitNanos, acquired);
+    }
+
+    /**
+     * 记录加锁失败
+     */
+    public void onFailure(String lockKey, boolean multi, Throwable error) {
+        failures.increment();
+        metrics.recordFailure(lockKey, multi, error);
+    }
+
+    void onAcquired(boolean watchdog) {
+        acquired.increment();
+        if (watchdog) {
+            watchdogAcquired.increment();
+        }
+    }
+
+    void onReleased(String lockKey, boolean multi, boolean watchdog, long heldNanos) {
+        released.increment();
+        if (watchdog) {
+            long heldMillis = heldNanos / 1_000_000;
+            watchdogHeldMillis.add(heldMillis);
+            estimatedRenewals.add(heldMillis / renewalIntervalMillis);
+        }
+        onHeld(lockKey, multi, heldNanos);
+    }
+
+    void onLost(String lockKey, boolean multi, long heldNanos) {
+        lost.increment();
+        onHeld(lockKey, multi, heldNanos);
+    }
+
+    private void onHeld(String lockKey, boolean multi, long heldNanos) {
+        metrics.recordHold(lockKey, multi, heldNanos);
+        long threshold = slowHoldThresholdNanos;
+        if (threshold > 0 && heldNanos >= threshold) {
+            LogUtils.warn("Slow lock holder, lockKey: {}, heldMillis: {}, thread: {}",
+                    lockKey, heldNanos / 1_000_000, Thread.currentThread().getName());
+        }
+    }
+
+    /**
+     * 获取统计快照
+     */
+    public Snapshot snapshot() {
+        long acquiredCount = acquired.sum();
+        long releasedCount = released.sum();
+        long lostCount = lost.sum();
+        return new Snapshot(acquiredCount, releasedCount, lostCount,
+                Math.max(0, acquiredCount - releasedCount - lostCount), timeouts.sum(), failures.sum(),
+                watchdogAcquired.sum(), watchdogHeldMillis.sum(), estimatedRenewals.sum());
+    }
+
+    /**
+     * 统计快照
+     *
+     * @param acquired           加锁成功次数
+     * @param released           正常释放次数
+     * @param lost               释放时锁已不再持有的次数（租期到期或被强制释放）
+     * @param held               当前通过句柄持有的锁数量
+     * @param timeouts           等待超时次数
+     * @param failures           加锁失败次数
+     * @param watchdogAcquired   由看门狗续期的加锁次数
+     * @param watchdogHeldMillis 看门狗锁累计持有时间（毫秒）
+     * @param estimatedRenewals  估算的看门狗续期次数
+     */
+    public record Snapshot(long acquired, long released, long lost, long held, long timeouts, long failures,
+                           long watchdogAcquired, long watchdogHeldMillis, long estimatedRenewals) {
+    }
+
+}
@@ -0,0 +1,177 @@
+package io.navms.framework.cache.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 Micrometer 的分布式锁指标
+ * <p>
+ * 等待时间与持有时间以直方图导出，按锁key模式打标签：以冒号分隔的各段中，含数字的段替换为 *，
+ * 例如 order:10086:pay 归并为 order:*:pay，避免标签基数随业务ID膨胀。
+ * 不含数字的业务ID（如用户名）无法归并，因此模式数量达到上限后，新出现的模式统一以 other 作为标签。
+ * 联锁统一以 multi 作为标签。同一组标签的指标只注册一次，之后直接复用
+ *
+ * @author navms
+ */
+public class MicrometerLockMetrics implements LockMetrics, MeterBinder {
+
+    private static final String WAIT = "boot.framework.lock.wait";
+    private static final String HOLD = "boot.framework.lock.hold";
+    private static final String TIMEOUT = "boot.framework.lock.timeout";
+    private static final String FAILURE = "boot.framework.lock.failure";
+
+    /**
+     * 联锁的标签
+     */
+    static final String MULTI = "multi";
+
+    /**
+     * 模式数量达到上限后使用的标签
+     */
+    static final String OTHER = "other";
+
+    private final int maxKeyPatterns;
+
+    private final Set<String> patterns = ConcurrentHashMap.newKeySet();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private volatile MeterRegistry registry;
+
+    public MicrometerLockMetrics() {
+        this(1000);
+    }
+
+    /**
+     * @param maxKeyPatterns 锁key模式标签的最大数量
+     */
+    public MicrometerLockMetrics(int maxKeyPatterns) {
+        this.maxKeyPatterns = maxKeyPatterns;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        patterns.clear();
+        timers.clear();
+        counters.clear();
+        this.registry = registry;
+    }
+
+    @Override
+    public void recordWait(String lockKey, boolean multi, long nanos, boolean acquired) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return;
+        }
+        String pattern = tagOf(lockKey, multi);
+        String result = acquired ? "acquired" : "timeout";
+        timers.computeIfAbsent(WAIT + '|' + pattern + '|' + result, k -> Timer.builder(WAIT)
+                        .description("分布式锁加锁等待时间")
+                        .tag("key", pattern)
+                        .tag("result", result)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            counters.computeIfAbsent(TIMEOUT + '|' + pattern, k -> Counter.builder(TIMEOUT)
+                            .description("分布式锁等待超时次数")
+                            .tag("key", pattern)
+                            .register(meterRegistry))
+                    .increment();
+        }
+    }
+
+    @Override
+    public void recordFailure(String lockKey, boolean multi, Throwable error) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return;
+        }
+        String pattern = tagOf(lockKey, multi);
+        String exception = error.getClass().getSimpleName();
+        counters.computeIfAbsent(FAILURE + '|' + pattern + '|' + exception, k -> Counter.builder(FAILURE)
+                        .description("分布式锁加锁失败次数")
+                        .tag("key", pattern)
+                        .tag("exception", exception)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    @Override
+    public void recordHold(String lockKey, boolean multi, long nanos) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return;
+        }
+        String pattern = tagOf(lockKey, multi);
+        timers.computeIfAbsent(HOLD + '|' + pattern, k -> Timer.builder(HOLD)
+                        .description("分布式锁持有时间")
+                        .tag("key", pattern)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 获取锁key的模式标签，模式数量达到上限时返回 other（并发注册时可能略微超出上限）
+     */
+    private String tagOf(String lockKey, boolean multi) {
+        if (multi) {
+            return MULTI;
+        }
+        String pattern = normalize(lockKey);
+        if (patterns.contains(pattern)) {
+            return pattern;
+        }
+        if (patterns.size() >= maxKeyPatterns) {
+            return OTHER;
+        }
+        patterns.add(pattern);
+        return pattern;
+    }
+
+    /**
+     * 将锁key归并为模式
+     */
+    static String normalize(String lockKey) {
+        if (lockKey == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(lockKey.length());
+        int start = 0;
+        while (start <= lockKey.length()) {
+            int end = lockKey.indexOf(':', start);
+            if (end < 0) {
+                end = lockKey.length();
+            }
+            if (start > 0) {
+                builder.append(':');
+            }
+            if (containsDigit(lockKey, start, end)) {
+                builder.append('*');
+            } else {
+                builder.append(lockKey, start, end);
+            }
+            start = end + 1;
+        }
+        return builder.toString();
+    }
+
+    private static boolean containsDigit(String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (Character.isDigit(value.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
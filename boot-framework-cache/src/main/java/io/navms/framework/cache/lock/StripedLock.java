@@ -0,0 +1,110 @@
+package io.navms.framework.cache.lock;
+
+import io.navms.framework.cache.exception.LockException;
+import io.navms.framework.cache.utils.LockUtil;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 分段锁
+ * <p>
+ * 将键哈希到固定数量的分段上，每个分段对应一个本地锁和一个分布式锁。适用于键数量巨大、
+ * 只需限制并发而不要求严格按键互斥的场景：不同的键可能落到同一分段上而相互等待，
+ * 分布式锁数量固定为分段数。先获取本地锁，同一节点内同一分段同时只有一个线程访问 Redis
+ *
+ * @author navms
+ */
+public class StripedLock {
+
+    private final String name;
+
+    private final ReentrantLock[] localLocks;
+
+    /**
+     * @param name    分段锁名称，作为分布式锁key的前缀
+     * @param stripes 分段数
+     */
+    public StripedLock(String name, int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes must be positive");
+        }
+        this.name = name;
+        this.localLocks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            localLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 分段数
+     */
+    public int getStripes() {
+        return localLocks.length;
+    }
+
+    /**
+     * 计算键所在的分段
+     *
+     * @param key 业务键
+     * @return 分段序号
+     */
+    public int stripeOf(String key) {
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), localLocks.length);
+    }
+
+    /**
+     * 锁定键所在的分段后执行操作
+     *
+     * @param key      业务键
+     * @param task     待执行任务
+     * @param waitTime 等待时间（本地锁与分布式锁共用），小于 0 时阻塞等待
+     * @param unit     时间单位
+     */
+    public void executeWithLock(String key, Runnable task, long waitTime, TimeUnit unit) {
+        executeWithLock(key, () -> {
+            task.run();
+            return null;
+        }, waitTime, unit);
+    }
+
+    /**
+     * 锁定键所在的分段后执行操作并返回结果
+     *
+     * @param key      业务键
+     * @param task     待执行任务
+     * @param waitTime 等待时间（本地锁与分布式锁共用），小于 0 时阻塞等待
+     * @param unit     时间单位
+     */
+    public <T> T executeWithLock(String key, Supplier<T> task, long waitTime, TimeUnit unit) {
+        int stripe = stripeOf(key);
+        String lockKey = name + ":" + stripe;
+        ReentrantLock localLock = localLocks[stripe];
+        long deadline = System.nanoTime() + unit.toNanos(Math.max(0, waitTime));
+        boolean localLocked = false;
+        try {
+            if (waitTime >= 0) {
+                localLocked = localLock.tryLock(waitTime, unit);
+            } else {
+                localLock.lockInterruptibly();
+                localLocked = true;
+            }
+            if (!localLocked) {
+                throw new LockException("Acquire lock timeout, lockKey: " + lockKey);
+            }
+
+            long remaining = waitTime >= 0 ? Math.max(0, deadline - System.nanoTime()) : -1;
+            return LockUtil.executeWithLock(lockKey, task, remaining, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LockException("Lock interrupted", e);
+        } finally {
+            if (localLocked) {
+                localLock.unlock();
+            }
+        }
+    }
+
+}
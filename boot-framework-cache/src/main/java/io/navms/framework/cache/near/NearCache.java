@@ -0,0 +1,301 @@
+package io.navms.framework.cache.near;
+
+import com.alibaba.fastjson2.JSON;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.navms.framework.cache.config.CacheProperties;
+import io.navms.framework.common.base.log.LogUtils;
+import io.navms.framework.common.base.utils.CollectionUtils;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucketAsync;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 近端缓存（L1）
+ * <p>
+ * 在 Redisson Bucket 之前增加一层有界的进程内缓存，本地存活时间不超过 Redis 中的剩余存活时间，
+ * 键被修改时通过 Redisson Topic 通知其他节点失效
+ *
+ * @author navms
+ */
+public class NearCache implements InitializingBean, DisposableBean {
+
+    private final RedissonClient redissonClient;
+
+    private final CacheProperties.NearCacheProperties properties;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 失效版本号，用于丢弃与失效并发的回填结果
+     */
+    private final AtomicLong invalidationVersion = new AtomicLong();
+
+    private final Cache<String, Entry> cache;
+
+    private RTopic topic;
+
+    private int listenerId = -1;
+
+    private int statusListenerId = -1;
+
+    public NearCache(RedissonClient redissonClient, CacheProperties.NearCacheProperties properties) {
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new EntryExpiry())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        topic = redissonClient.getTopic(properties.getTopic(), StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> onMessage(message));
+        // 重新订阅期间可能丢失失效消息，直接清空本地缓存
+        statusListenerId = topic.addListener(new BaseStatusListener() {
+            @Override
+            public void onSubscribe(String channel) {
+                invalidateLocal();
+            }
+        });
+        LogUtils.info("近端缓存已启用, maximumSize: {}, timeToLive: {}, topic: {}",
+                properties.getMaximumSize(), properties.getTimeToLive(), properties.getTopic());
+    }
+
+    /**
+     * 判断键是否参与近端缓存
+     *
+     * @param key 缓存键
+     * @return 是否参与
+     */
+    public boolean isCacheable(String key) {
+        List<String> prefixes = properties.getKeyPrefixes();
+        if (CollectionUtils.isEmpty(prefixes)) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 读取缓存值，本地未命中时在一次往返中读取 Redis 的值与剩余存活时间并回填
+     *
+     * @param key   缓存键
+     * @param codec 编解码器，为 null 时使用默认编解码器
+     * @return 缓存值
+     */
+    public <T> T get(String key, Codec codec) {
+        T cached = getIfPresent(key, codec);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = invalidationVersion.get();
+        return fill(key, codec, createLoadBatch(key, codec).execute(), version);
+    }
+
+    /**
+     * 异步读取缓存值，行为与 {@link #get(String, Codec)} 一致
+     *
+     * @param key   缓存键
+     * @param codec 编解码器，为 null 时使用默认编解码器
+     * @return 缓存值
+     */
+    public <T> CompletionStage<T> getAsync(String key, Codec codec) {
+        T cached = getIfPresent(key, codec);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        long version = invalidationVersion.get();
+        return createLoadBatch(key, codec).executeAsync().thenApply(result -> fill(key, codec, result, version));
+    }
+
+    /**
+     * 仅读取本地缓存，不访问 Redis
+     *
+     * @param key   缓存键
+     * @param codec 编解码器，为 null 时使用默认编解码器
+     * @return 缓存值，本地未命中时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getIfPresent(String key, Codec codec) {
+        Entry entry = cache.getIfPresent(key);
+        return entry != null && entry.codec() == codec ? (T) entry.value() : null;
+    }
+
+    /**
+     * 使本节点及其他节点的缓存键失效
+     *
+     * @param key 缓存键
+     */
+    public void invalidate(String key) {
+        invalidate(List.of(key));
+    }
+
+    /**
+     * 使本节点及其他节点的缓存键失效
+     *
+     * @param keys 缓存键
+     */
+    public void invalidate(Collection<String> keys) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return;
+        }
+        invalidationVersion.incrementAndGet();
+        cache.invalidateAll(keys);
+        try {
+            topic.publish(JSON.toJSONString(new NearCacheInvalidation(nodeId, List.copyOf(keys))));
+        } catch (Exception e) {
+            LogUtils.error("发布近端缓存失效消息失败, keys: {}", e, keys);
+        }
+    }
+
+    /**
+     * 使本节点及其他节点的缓存键失效，通过异步发布通知其他节点，可在 Redisson 回调线程中调用
+     *
+     * @param keys 缓存键
+     * @return 失效消息发布完成，发布失败时记录日志并正常完成
+     */
+    public CompletionStage<Void> invalidateAsync(Collection<String> keys) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        invalidationVersion.incrementAndGet();
+        cache.invalidateAll(keys);
+        return topic.publishAsync(JSON.toJSONString(new NearCacheInvalidation(nodeId, List.copyOf(keys))))
+                .handle((receivers, e) -> {
+                    if (e != null) {
+                        LogUtils.error("发布近端缓存失效消息失败, keys: {}", e, keys);
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * 清空本节点的近端缓存
+     */
+    public void invalidateLocal() {
+        invalidationVersion.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * 获取命中、未命中、淘汰等统计信息
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 获取当前缓存条目数（估算值）
+     */
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 获取底层 Caffeine 缓存，用于指标绑定
+     */
+    public Cache<String, ?> getNativeCache() {
+        return cache;
+    }
+
+    @Override
+    public void destroy() {
+        if (topic != null) {
+            topic.removeListener(listenerId, statusListenerId);
+        }
+    }
+
+    private RBatch createLoadBatch(String key, Codec codec) {
+        RBatch batch = redissonClient.createBatch();
+        RBucketAsync<Object> bucket = codec == null ? batch.getBucket(key) : batch.getBucket(key, codec);
+        bucket.getAsync();
+        bucket.remainTimeToLiveAsync();
+        return batch;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T fill(String key, Codec codec, BatchResult<?> result, long version) {
+        T value = (T) result.getResponses().get(0);
+        if (value != null) {
+            put(key, codec, value, (Long) result.getResponses().get(1), version);
+        }
+        return value;
+    }
+
+    private void put(String key, Codec codec, Object value, Long remainTimeToLive, long version) {
+        // -2 表示键在读取期间已被删除
+        if (remainTimeToLive == null || remainTimeToLive == -2) {
+            return;
+        }
+        long ttlNanos = properties.getTimeToLive().toNanos();
+        if (remainTimeToLive > 0) {
+            ttlNanos = Math.min(ttlNanos, TimeUnit.MILLISECONDS.toNanos(remainTimeToLive));
+        }
+        cache.put(key, new Entry(value, codec, ttlNanos));
+        if (invalidationVersion.get() != version) {
+            cache.invalidate(key);
+        }
+    }
+
+    private void onMessage(String message) {
+        try {
+            NearCacheInvalidation invalidation = JSON.parseObject(message, NearCacheInvalidation.class);
+            if (invalidation == null || nodeId.equals(invalidation.getSource())
+                    || CollectionUtils.isEmpty(invalidation.getKeys())) {
+                return;
+            }
+            invalidationVersion.incrementAndGet();
+            cache.invalidateAll(invalidation.getKeys());
+        } catch (Exception e) {
+            LogUtils.error("处理近端缓存失效消息失败: {}", e, message);
+        }
+    }
+
+    private record Entry(Object value, Codec codec, long ttlNanos) {
+    }
+
+    private static class EntryExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return entry.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
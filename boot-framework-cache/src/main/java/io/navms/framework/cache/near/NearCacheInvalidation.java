@@ -0,0 +1,29 @@
+package io.navms.framework.cache.near;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 近端缓存失效消息
+ *
+ * @author navms
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearCacheInvalidation {
+
+    /**
+     * 发送方节点标识，用于忽略本节点发出的消息
+     */
+    private String source;
+
+    /**
+     * 失效的缓存键
+     */
+    private List<String> keys;
+
+}
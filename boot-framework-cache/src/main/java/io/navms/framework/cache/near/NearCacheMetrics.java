@@ -0,0 +1,30 @@
+package io.navms.framework.cache.near;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.lang.NonNull;
+
+import java.util.Collections;
+
+/**
+ * 近端缓存指标，导出命中、未命中、淘汰次数及缓存大小
+ *
+ * @author navms
+ */
+public class NearCacheMetrics implements MeterBinder {
+
+    private static final String CACHE_NAME = "near-cache";
+
+    private final NearCache nearCache;
+
+    public NearCacheMetrics(NearCache nearCache) {
+        this.nearCache = nearCache;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        new CaffeineCacheMetrics<>(nearCache.getNativeCache(), CACHE_NAME, Collections.emptyList()).bindTo(registry);
+    }
+
+}
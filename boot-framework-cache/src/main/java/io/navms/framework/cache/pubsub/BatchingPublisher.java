@@ -0,0 +1,116 @@
+package io.navms.framework.cache.pubsub;
+
+import io.navms.framework.cache.config.CacheProperties;
+import io.navms.framework.common.base.log.LogUtils;
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 合并发布器
+ * <p>
+ * 同一频道在合并窗口内的消息合并为一个 {@link MessageBatch} 发布，窗口结束或消息数达到上限时发送，
+ * 多个频道的批次在同一次管道中提交。窗口内只有一条消息时按原消息发布。
+ * 订阅方需使用 {@link MessageDispatcher} 拆分批次
+ *
+ * @author navms
+ */
+public class BatchingPublisher implements InitializingBean, DisposableBean {
+
+    private final RedissonClient redissonClient;
+
+    private final CacheProperties.PubSubProperties properties;
+
+    private final Map<String, List<Object>> buffers = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    public BatchingPublisher(RedissonClient redissonClient, CacheProperties.PubSubProperties properties) {
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        long windowMillis = Math.max(1, properties.getBatchWindow().toMillis());
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "batching-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        flushQuietly();
+    }
+
+    /**
+     * 合并发布消息
+     *
+     * @param channel 频道
+     * @param message 消息
+     */
+    public void publish(String channel, Object message) {
+        List<Object> full = null;
+        List<Object> buffer = buffers.computeIfAbsent(channel, k -> new ArrayList<>());
+        synchronized (buffer) {
+            buffer.add(message);
+            if (buffer.size() >= properties.getMaxBatchSize()) {
+                full = new ArrayList<>(buffer);
+                buffer.clear();
+            }
+        }
+        if (full != null) {
+            send(Map.of(channel, full));
+        }
+    }
+
+    /**
+     * 立即发送所有频道缓冲的消息
+     */
+    public void flush() {
+        Map<String, List<Object>> pending = new HashMap<>();
+        buffers.forEach((channel, buffer) -> {
+            synchronized (buffer) {
+                if (!buffer.isEmpty()) {
+                    pending.put(channel, new ArrayList<>(buffer));
+                    buffer.clear();
+                }
+            }
+        });
+        if (!pending.isEmpty()) {
+            send(pending);
+        }
+    }
+
+    private void send(Map<String, List<Object>> pending) {
+        RBatch batch = redissonClient.createBatch();
+        pending.forEach((channel, messages) -> batch.getTopic(channel)
+                .publishAsync(messages.size() == 1 ? messages.get(0) : new MessageBatch(messages)));
+        batch.execute();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            LogUtils.error("Flush batched messages failed", e);
+        }
+    }
+
+}
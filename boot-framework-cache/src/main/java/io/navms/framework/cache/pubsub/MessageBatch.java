@@ -0,0 +1,26 @@
+package io.navms.framework.cache.pubsub;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 合并发布的消息批次，由 {@link MessageDispatcher} 拆分后逐条分发
+ *
+ * @author navms
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageBatch implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private List<Object> messages;
+
+}
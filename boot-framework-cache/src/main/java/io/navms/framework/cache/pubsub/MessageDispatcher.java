@@ -0,0 +1,189 @@
+package io.navms.framework.cache.pubsub;
+
+import io.navms.framework.cache.config.CacheProperties;
+import io.navms.framework.common.base.log.LogUtils;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 类型化的消息分发器
+ * <p>
+ * 每个频道只向 Redisson 注册一个监听器，收到消息后仅做入队，监听逻辑在独立的有界线程池（或虚拟线程）中执行，
+ * 不占用 Redisson 的事件循环线程。积压达到 queueCapacity 时丢弃新消息并计数。
+ * {@link MessageBatch} 会被拆分后逐条分发，消息按类型匹配监听器。多线程分发不保证消息顺序
+ *
+ * @author navms
+ */
+public class MessageDispatcher implements DisposableBean {
+
+    private final RedissonClient redissonClient;
+
+    private final ExecutorService executor;
+
+    private final int queueCapacity;
+
+    private final Semaphore capacity;
+
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public MessageDispatcher(RedissonClient redissonClient, CacheProperties.PubSubProperties properties) {
+        this.redissonClient = redissonClient;
+        this.queueCapacity = properties.getQueueCapacity();
+        this.capacity = new Semaphore(queueCapacity);
+        if (properties.isVirtualThreads()) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("message-dispatcher-", 0).factory());
+        } else {
+            AtomicInteger sequence = new AtomicInteger();
+            this.executor = new ThreadPoolExecutor(properties.getDispatcherThreads(), properties.getDispatcherThreads(),
+                    60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "message-dispatcher-" + sequence.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @Override
+    public void destroy() {
+        channels.values().forEach(channel -> channel.topic.removeListener(channel.listenerId));
+        channels.clear();
+        executor.shutdown();
+    }
+
+    /**
+     * 订阅频道中指定类型的消息
+     *
+     * @param channel  频道
+     * @param type     消息类型，非该类型的消息不会分发给此监听器
+     * @param listener 监听器
+     * @return 订阅句柄，关闭后取消订阅
+     */
+    public <T> Subscription subscribe(String channel, Class<T> type, Consumer<? super T> listener) {
+        Registration<T> registration = new Registration<>(type, listener);
+        Channel target = channels.computeIfAbsent(channel, this::register);
+        target.registrations.add(registration);
+        return () -> target.registrations.remove(registration);
+    }
+
+    /**
+     * 当前积压的消息数量
+     */
+    public int getQueued() {
+        return queueCapacity - capacity.availablePermits();
+    }
+
+    public long getReceived() {
+        return received.sum();
+    }
+
+    public long getDispatched() {
+        return dispatched.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    private Channel register(String channel) {
+        RTopic topic = redissonClient.getTopic(channel);
+        Channel target = new Channel(topic);
+        target.listenerId = topic.addListener(Object.class, (ch, message) -> {
+            if (message instanceof MessageBatch batch) {
+                batch.getMessages().forEach(item -> enqueue(target, item));
+            } else {
+                enqueue(target, message);
+            }
+        });
+        return target;
+    }
+
+    private void enqueue(Channel channel, Object message) {
+        received.increment();
+        if (!capacity.tryAcquire()) {
+            dropped.increment();
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    dispatch(channel, message);
+                } finally {
+                    capacity.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            capacity.release();
+            dropped.increment();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatch(Channel channel, Object message) {
+        for (Registration<?> registration : channel.registrations) {
+            if (!registration.type.isInstance(message)) {
+                continue;
+            }
+            try {
+                ((Consumer<Object>) registration.listener).accept(message);
+                dispatched.increment();
+            } catch (Exception e) {
+                failed.increment();
+                LogUtils.error("Dispatch message failed, channel: {}", e, channel.topic.getChannelNames());
+            }
+        }
+    }
+
+    /**
+     * 订阅句柄
+     */
+    @FunctionalInterface
+    public interface Subscription extends AutoCloseable {
+
+        @Override
+        void close();
+
+    }
+
+    private static class Channel {
+
+        private final RTopic topic;
+
+        private final List<Registration<?>> registrations = new CopyOnWriteArrayList<>();
+
+        private int listenerId;
+
+        Channel(RTopic topic) {
+            this.topic = topic;
+        }
+
+    }
+
+    private record Registration<T>(Class<T> type, Consumer<? super T> listener) {
+    }
+
+}
@@ -0,0 +1,41 @@
+package io.navms.framework.cache.pubsub;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+
+/**
+ * 消息分发器指标，导出接收、分发、丢弃、失败次数及当前积压数量
+ *
+ * @author navms
+ */
+public class MessageDispatcherMetrics implements MeterBinder {
+
+    private final MessageDispatcher dispatcher;
+
+    public MessageDispatcherMetrics(MessageDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("boot.framework.pubsub.received", dispatcher, MessageDispatcher::getReceived)
+                .description("接收的消息数量")
+                .register(registry);
+        FunctionCounter.builder("boot.framework.pubsub.dispatched", dispatcher, MessageDispatcher::getDispatched)
+                .description("成功分发给监听器的次数")
+                .register(registry);
+        FunctionCounter.builder("boot.framework.pubsub.dropped", dispatcher, MessageDispatcher::getDropped)
+                .description("积压已满被丢弃的消息数量")
+                .register(registry);
+        FunctionCounter.builder("boot.framework.pubsub.failed", dispatcher, MessageDispatcher::getFailed)
+                .description("监听器执行失败的次数")
+                .register(registry);
+        Gauge.builder("boot.framework.pubsub.queued", dispatcher, MessageDispatcher::getQueued)
+                .description("当前积压的消息数量")
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,41 @@
+package io.navms.framework.cache.support;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 缓存加载条目
+ * <p>
+ * 由 {@code CacheUtil.getOrLoad} 写入，除缓存值外还记录加载耗时与过期时刻，用于提前刷新判断，
+ * 缓存值为 null 时表示空值缓存
+ *
+ * @author navms
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEntry implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 6120735524587236713L;
+
+    /**
+     * 缓存值
+     */
+    private Object value;
+
+    /**
+     * 加载耗时（毫秒）
+     */
+    private long delta;
+
+    /**
+     * 过期时刻（毫秒时间戳），{@link Long#MAX_VALUE} 表示不过期
+     */
+    private long expireAt;
+
+}
@@ -0,0 +1,294 @@
+package io.navms.framework.cache.utils;
+
+import io.navms.framework.cache.near.NearCache;
+import io.navms.framework.common.base.utils.CollectionUtils;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucketAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 基于 Redisson 异步接口的缓存操作
+ * <p>
+ * 语义与 {@link CacheUtil} 中的同名方法一致（包括近端缓存的读取与失效），
+ * 可用于并发发起多个缓存读取后统一等待结果。回调运行在 Redisson 的 Netty 线程上，
+ * 近端缓存失效消息通过异步发布并合入返回的 future，不调用同步接口
+ *
+ * @author navms
+ */
+public final class AsyncCacheOperations {
+
+    static final AsyncCacheOperations INSTANCE = new AsyncCacheOperations();
+
+    private AsyncCacheOperations() {
+    }
+
+    // ==================== 基础对象操作 ====================
+
+    /**
+     * 设置缓存对象
+     *
+     * @param key      缓存键
+     * @param value    缓存值
+     * @param duration 过期时间
+     */
+    public <T> CompletionStage<Void> setObject(String key, T value, Duration duration) {
+        return set(key, value, duration, null);
+    }
+
+    /**
+     * 获取缓存对象
+     *
+     * @param key 缓存键
+     * @return 缓存值
+     */
+    public <T> CompletionStage<T> getObject(String key) {
+        return get(key, null);
+    }
+
+    // ==================== 字符串操作 ====================
+
+    /**
+     * 设置字符串值
+     *
+     * @param key      缓存键
+     * @param value    字符串值
+     * @param duration 过期时间
+     */
+    public CompletionStage<Void> setString(String key, String value, Duration duration) {
+        return set(key, value, duration, StringCodec.INSTANCE);
+    }
+
+    /**
+     * 获取字符串值
+     *
+     * @param key 缓存键
+     * @return 字符串值
+     */
+    public CompletionStage<String> getString(String key) {
+        return get(key, StringCodec.INSTANCE);
+    }
+
+    // ==================== 批量操作 ====================
+
+    /**
+     * 批量获取缓存对象，各分段并发执行
+     *
+     * @param keys 缓存键集合
+     * @return 存在的键值对
+     */
+    public <T> CompletionStage<Map<String, T>> multiGet(Collection<String> keys) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return CompletableFuture.completedFuture(new HashMap<>());
+        }
+
+        Map<String, T> result = new HashMap<>();
+        List<String> missKeys = new ArrayList<>(keys.size());
+        NearCache nearCache = CacheUtil.getNearCache();
+        for (String key : keys) {
+            T cached = nearCache != null && nearCache.isCacheable(key) ? nearCache.getIfPresent(key, null) : null;
+            if (cached != null) {
+                result.put(key, cached);
+            } else {
+                missKeys.add(key);
+            }
+        }
+
+        List<CompletableFuture<Map<String, T>>> futures = new ArrayList<>();
+        for (List<String> chunk : CollectionUtils.split(missKeys, CacheUtil.getBatchSize())) {
+            futures.add(redisson().getBuckets().<T>getAsync(chunk.toArray(new String[0])).toCompletableFuture());
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            futures.forEach(future -> result.putAll(future.join()));
+            return result;
+        });
+    }
+
+    /**
+     * 批量设置缓存对象，各分段并发执行
+     *
+     * @param values   键值对
+     * @param duration 过期时间，为 null 时不过期
+     */
+    public <T> CompletionStage<Void> multiSet(Map<String, T> values, Duration duration) {
+        if (CollectionUtils.isEmpty(values)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (List<Map.Entry<String, T>> chunk : CollectionUtils.split(values.entrySet(), CacheUtil.getBatchSize())) {
+            RBatch batch = redisson().createBatch();
+            for (Map.Entry<String, T> entry : chunk) {
+                RBucketAsync<T> bucket = batch.getBucket(entry.getKey());
+                if (duration != null) {
+                    bucket.setAsync(entry.getValue(), duration);
+                } else {
+                    bucket.setAsync(entry.getValue());
+                }
+            }
+            futures.add(batch.executeAsync().toCompletableFuture());
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenCompose(ignored -> CacheUtil.invalidateNearCacheAsync(values.keySet()));
+    }
+
+    // ==================== Map 操作 ====================
+
+    /**
+     * 向 Map 中存入一个键值对
+     *
+     * @param mapKey 整个 Map 的缓存键
+     * @param key    Map 中的键
+     * @param value  Map 中的值
+     * @return 是否为新增的键
+     */
+    public <K, V> CompletionStage<Boolean> put(String mapKey, K key, V value) {
+        return redisson().<K, V>getMap(mapKey).fastPutAsync(key, value);
+    }
+
+    /**
+     * 从 Map 中获取指定键的值
+     *
+     * @param mapKey 整个 Map 的缓存键
+     * @param key    Map 中的键
+     * @return Map 中该键对应的值
+     */
+    public <K, V> CompletionStage<V> getMap(String mapKey, K key) {
+        return redisson().<K, V>getMap(mapKey).getAsync(key);
+    }
+
+    /**
+     * 从 Map 中批量获取指定键的值
+     *
+     * @param mapKey 整个 Map 的缓存键
+     * @param keys   Map 中的键
+     * @return 存在的键值对
+     */
+    public <K, V> CompletionStage<Map<K, V>> getAll(String mapKey, Set<K> keys) {
+        return redisson().<K, V>getMap(mapKey).getAllAsync(keys);
+    }
+
+    // ==================== 其他实用操作 ====================
+
+    /**
+     * 如果键不存在则设置值
+     *
+     * @param key      缓存键
+     * @param value    缓存值
+     * @param duration 过期时间
+     * @return 是否设置成功
+     */
+    public <T> CompletionStage<Boolean> setIfAbsent(String key, T value, Duration duration) {
+        RBucketAsync<T> bucket = redisson().getBucket(key);
+        CompletionStage<Boolean> future = duration != null
+                ? bucket.setIfAbsentAsync(value, duration) : bucket.setIfAbsentAsync(value);
+        return future.thenCompose(success -> success
+                ? CacheUtil.invalidateNearCacheAsync(List.of(key)).thenApply(ignored -> true)
+                : CompletableFuture.completedFuture(false));
+    }
+
+    /**
+     * 删除缓存键
+     *
+     * @param key 缓存键
+     * @return 是否删除成功
+     */
+    public CompletionStage<Boolean> delete(String key) {
+        return redisson().getBucket(key).deleteAsync().thenCompose(deleted ->
+                CacheUtil.invalidateNearCacheAsync(List.of(key)).thenApply(ignored -> deleted));
+    }
+
+    /**
+     * 检查键是否存在
+     *
+     * @param key 缓存键
+     * @return 是否存在
+     */
+    public CompletionStage<Boolean> exists(String key) {
+        return redisson().getBucket(key).isExistsAsync();
+    }
+
+    /**
+     * 设置过期时间
+     *
+     * @param key      缓存键
+     * @param duration 过期时间
+     * @return 是否设置成功
+     */
+    public CompletionStage<Boolean> expire(String key, Duration duration) {
+        if (duration == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return redisson().getBucket(key).expireAsync(duration).thenCompose(success ->
+                CacheUtil.invalidateNearCacheAsync(List.of(key)).thenApply(ignored -> success));
+    }
+
+    /**
+     * 获取剩余存活时间
+     *
+     * @param key 缓存键
+     * @return 剩余时间（毫秒）, -2表示键不存在, -1表示键存在但无过期时间
+     */
+    public CompletionStage<Long> getTimeToLive(String key) {
+        return redisson().getBucket(key).remainTimeToLiveAsync();
+    }
+
+    /**
+     * 原子递增
+     *
+     * @param key 计数器键
+     * @return 递增后的值
+     */
+    public CompletionStage<Long> increment(String key) {
+        return redisson().getAtomicLong(key).incrementAndGetAsync();
+    }
+
+    /**
+     * 原子递减
+     *
+     * @param key 计数器键
+     * @return 递减后的值
+     */
+    public CompletionStage<Long> decrement(String key) {
+        return redisson().getAtomicLong(key).decrementAndGetAsync();
+    }
+
+    /**
+     * 发布消息
+     *
+     * @param channel 频道
+     * @param message 消息
+     * @return 接收到消息的订阅者数量
+     */
+    public <T> CompletionStage<Long> publish(String channel, T message) {
+        return redisson().getTopic(channel).publishAsync(message);
+    }
+
+    // ==================== 内部方法 ====================
+
+    private <T> CompletionStage<Void> set(String key, T value, Duration duration, Codec codec) {
+        RBucketAsync<T> bucket = codec == null ? redisson().getBucket(key) : redisson().getBucket(key, codec);
+        CompletionStage<Void> future = duration != null ? bucket.setAsync(value, duration) : bucket.setAsync(value);
+        return future.thenCompose(ignored -> CacheUtil.invalidateNearCacheAsync(List.of(key)));
+    }
+
+    private <T> CompletionStage<T> get(String key, Codec codec) {
+        NearCache nearCache = CacheUtil.getNearCache();
+        if (nearCache != null && nearCache.isCacheable(key)) {
+            return nearCache.getAsync(key, codec);
+        }
+        RBucketAsync<T> bucket = codec == null ? redisson().getBucket(key) : redisson().getBucket(key, codec);
+        return bucket.getAsync();
+    }
+
+    private static RedissonClient redisson() {
+        return CacheUtil.getRedissonClient();
+    }
+
+}
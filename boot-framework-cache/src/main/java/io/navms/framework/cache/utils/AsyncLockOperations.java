@@ -0,0 +1,114 @@
+package io.navms.framework.cache.utils;
+
+import io.navms.framework.cache.exception.LockException;
+import io.navms.framework.common.base.log.LogUtils;
+import org.redisson.api.RLock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 基于 Redisson 异步接口的分布式锁操作
+ * <p>
+ * 异步场景下锁的持有者不再是线程，而是由调用方传入或自动分配的 ownerId，加锁与解锁需使用同一个 ownerId
+ *
+ * @author navms
+ */
+public final class AsyncLockOperations {
+
+    static final AsyncLockOperations INSTANCE = new AsyncLockOperations();
+
+    /**
+     * 从负数开始分配，避免与线程 ID 冲突
+     */
+    private final AtomicLong ownerIdSequence = new AtomicLong(Long.MIN_VALUE);
+
+    private AsyncLockOperations() {
+    }
+
+    /**
+     * 分配一个新的锁持有者 ID
+     */
+    public long newOwnerId() {
+        return ownerIdSequence.getAndIncrement();
+    }
+
+    /**
+     * 尝试获取锁
+     *
+     * @param lockKey   锁key
+     * @param waitTime  等待时间
+     * @param leaseTime 锁定时间，-1 表示由看门狗自动续期
+     * @param unit      时间单位
+     * @param ownerId   锁持有者 ID
+     * @return 加锁结果
+     */
+    public CompletionStage<Boolean> tryLock(String lockKey, long waitTime, long leaseTime, TimeUnit unit, long ownerId) {
+        return LockUtil.getLock(lockKey).tryLockAsync(waitTime, leaseTime, unit, ownerId);
+    }
+
+    /**
+     * 释放锁
+     *
+     * @param lockKey 锁key
+     * @param ownerId 锁持有者 ID
+     */
+    public CompletionStage<Void> unlock(String lockKey, long ownerId) {
+        return LockUtil.getLock(lockKey).unlockAsync(ownerId);
+    }
+
+    /**
+     * 执行带有锁的异步操作，任务完成（无论成功与否）后自动释放锁
+     * <p>
+     * 任务在 {@link ForkJoinPool#commonPool()} 中启动，不占用 Redisson 的 Netty 线程
+     *
+     * @param lockKey  锁key
+     * @param task     待执行的异步任务
+     * @param waitTime 等待时间
+     * @param unit     时间单位
+     * @return 任务结果，获取锁超时时以 {@link LockException} 异常完成
+     */
+    public <T> CompletionStage<T> executeWithLock(String lockKey, Supplier<? extends CompletionStage<T>> task,
+                                                  long waitTime, TimeUnit unit) {
+        return executeWithLock(lockKey, task, waitTime, unit, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 执行带有锁的异步操作，任务完成（无论成功与否）后自动释放锁
+     *
+     * @param lockKey  锁key
+     * @param task     待执行的异步任务
+     * @param waitTime 等待时间
+     * @param unit     时间单位
+     * @param executor 启动任务的线程池，任务中可以调用阻塞或同步的 Redisson 接口
+     * @return 任务结果，获取锁超时时以 {@link LockException} 异常完成
+     */
+    public <T> CompletionStage<T> executeWithLock(String lockKey, Supplier<? extends CompletionStage<T>> task,
+                                                  long waitTime, TimeUnit unit, Executor executor) {
+        RLock lock = LockUtil.getLock(lockKey);
+        long ownerId = newOwnerId();
+        return lock.tryLockAsync(waitTime, -1, unit, ownerId).thenComposeAsync(locked -> {
+            if (!locked) {
+                return CompletableFuture.failedFuture(new LockException("Acquire lock timeout, lockKey: " + lockKey));
+            }
+
+            CompletionStage<T> future;
+            try {
+                future = task.get();
+            } catch (Exception e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            return future.whenComplete((result, error) -> lock.unlockAsync(ownerId).whenComplete((v, e) -> {
+                if (e != null) {
+                    LogUtils.error("Unlock failed, lockKey: {}", e, lockKey);
+                }
+            }));
+        }, executor);
+    }
+
+}
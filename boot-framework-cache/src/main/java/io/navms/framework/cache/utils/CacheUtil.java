@@ -1,17 +1,41 @@
 package io.navms.framework.cache.utils;
 
+import io.navms.framework.cache.breaker.RedisCircuitBreaker;
+import io.navms.framework.cache.config.CacheProperties;
+import io.navms.framework.cache.counter.BufferedCounter;
+import io.navms.framework.cache.exception.LockException;
+import io.navms.framework.cache.hotkey.HotKeyDetector;
+import io.navms.framework.cache.lock.LockHandle;
+import io.navms.framework.cache.near.NearCache;
+import io.navms.framework.cache.pubsub.BatchingPublisher;
+import io.navms.framework.cache.pubsub.MessageDispatcher;
+import io.navms.framework.cache.support.CacheEntry;
+import io.navms.framework.cache.support.SingleFlight;
+import io.navms.framework.common.base.log.LogUtils;
+import io.navms.framework.common.base.utils.CollectionUtils;
 import io.navms.framework.common.base.utils.Requires;
 import io.navms.framework.common.base.utils.SpringContextHolder;
-import org.redisson.api.RBucket;
-import org.redisson.api.RKeys;
-import org.redisson.api.RMap;
-import org.redisson.api.RedissonClient;
-import org.redisson.api.options.KeysScanParams;
+import org.redisson.api.*;
+import org.redisson.api.options.KeysScanOptions;
+import org.redisson.api.options.LocalCachedMapOptions;
+import org.redisson.client.codec.Codec;
 import org.redisson.client.codec.StringCodec;
 
 import java.time.Duration;
-import java.util.Collection;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * 基于 Redisson 的缓存工具类
@@ -30,12 +54,15 @@ public abstract class CacheUtil {
      * @param duration 过期时间
      */
     public static <T> void setObject(String key, T value, Duration duration) {
-        RBucket<T> bucket = getRedissonClient().getBucket(key);
-        if (duration != null) {
-            bucket.set(value, duration);
-        } else {
-            bucket.set(value);
-        }
+        write(key, value, () -> {
+            RBucket<T> bucket = getRedissonClient().getBucket(key);
+            if (duration != null) {
+                bucket.set(value, duration);
+            } else {
+                bucket.set(value);
+            }
+            invalidateNearCache(key);
+        });
     }
 
     /**
@@ -45,8 +72,7 @@ public abstract class CacheUtil {
      * @return 缓存值
      */
     public static <T> T getObject(String key) {
-        RBucket<T> bucket = getRedissonClient().getBucket(key);
-        return bucket.get();
+        return get(key, null);
     }
 
     // ==================== 字符串操作 ====================
@@ -59,12 +85,15 @@ public abstract class CacheUtil {
      * @param duration 过期时间
      */
     public static void setString(String key, String value, Duration duration) {
-        RBucket<String> bucket = getRedissonClient().getBucket(key, StringCodec.INSTANCE);
-        if (duration != null) {
-            bucket.set(value, duration);
-        } else {
-            bucket.set(value);
-        }
+        write(key, value, () -> {
+            RBucket<String> bucket = getRedissonClient().getBucket(key, StringCodec.INSTANCE);
+            if (duration != null) {
+                bucket.set(value, duration);
+            } else {
+                bucket.set(value);
+            }
+            invalidateNearCache(key);
+        });
     }
 
     /**
@@ -74,8 +103,179 @@ public abstract class CacheUtil {
      * @return 字符串值
      */
     public static String getString(String key) {
-        RBucket<String> bucket = getRedissonClient().getBucket(key, StringCodec.INSTANCE);
-        return bucket.get();
+        return get(key, StringCodec.INSTANCE);
+    }
+
+    // ==================== 批量操作 ====================
+
+    /**
+     * 批量获取缓存对象，按批次大小分段使用 MGET 读取
+     *
+     * @param keys 缓存键集合
+     * @return 存在的键值对，不存在的键不包含在结果中
+     */
+    public static <T> Map<String, T> multiGet(Collection<String> keys) {
+        Map<String, T> result = new HashMap<>();
+        if (CollectionUtils.isEmpty(keys)) {
+            return result;
+        }
+
+        List<String> missKeys = new ArrayList<>(keys.size());
+        NearCache nearCache = getNearCache();
+        for (String key : keys) {
+            T cached = nearCache != null && nearCache.isCacheable(key) ? nearCache.getIfPresent(key, null) : null;
+            if (cached != null) {
+                result.put(key, cached);
+            } else {
+                missKeys.add(key);
+            }
+        }
+
+        result.putAll(readAll(missKeys, () -> {
+            Map<String, T> values = new HashMap<>();
+            RBuckets buckets = getRedissonClient().getBuckets();
+            for (List<String> chunk : CollectionUtils.split(missKeys, getBatchSize())) {
+                values.putAll(buckets.get(chunk.toArray(new String[0])));
+            }
+            return values;
+        }));
+        return result;
+    }
+
+    /**
+     * 批量设置缓存对象，所有键使用相同的过期时间
+     *
+     * @param values   键值对
+     * @param duration 过期时间，为 null 时不过期
+     */
+    public static <T> void multiSet(Map<String, T> values, Duration duration) {
+        multiSet(values, key -> duration);
+    }
+
+    /**
+     * 批量设置缓存对象，按批次大小分段以管道方式提交
+     *
+     * @param values           键值对
+     * @param durationFunction 根据键计算过期时间，返回 null 时不过期
+     */
+    public static <T> void multiSet(Map<String, T> values, Function<String, Duration> durationFunction) {
+        if (CollectionUtils.isEmpty(values)) {
+            return;
+        }
+
+        writeAll(values.keySet(), values::get, () -> {
+            for (List<Map.Entry<String, T>> chunk : CollectionUtils.split(values.entrySet(), getBatchSize())) {
+                RBatch batch = getRedissonClient().createBatch();
+                for (Map.Entry<String, T> entry : chunk) {
+                    RBucketAsync<T> bucket = batch.getBucket(entry.getKey());
+                    Duration duration = durationFunction.apply(entry.getKey());
+                    if (duration != null) {
+                        bucket.setAsync(entry.getValue(), duration);
+                    } else {
+                        bucket.setAsync(entry.getValue());
+                    }
+                }
+                batch.execute();
+            }
+            invalidateNearCache(values.keySet());
+        });
+    }
+
+    /**
+     * 批量删除缓存键
+     * 启用熔断时，删除操作因熔断打开或重放未完成而进入队列或被丢弃时返回 0，此时无法得知实际删除的数量
+     *
+     * @param keys 缓存键集合
+     * @return 删除的键数量
+     */
+    public static long multiDelete(Collection<String> keys) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return 0;
+        }
+
+        long[] deleted = new long[1];
+        writeAll(keys, key -> null, () -> {
+            RKeys rKeys = getRedissonClient().getKeys();
+            for (List<String> chunk : CollectionUtils.split(keys, getBatchSize())) {
+                deleted[0] += rKeys.delete(chunk.toArray(new String[0]));
+            }
+            invalidateNearCache(keys);
+        });
+        return deleted[0];
+    }
+
+    /**
+     * 批量原子递增
+     *
+     * @param deltas 计数器键与增量
+     * @return 计数器键与递增后的值
+     */
+    public static Map<String, Long> multiIncrement(Map<String, Long> deltas) {
+        Map<String, Long> result = new HashMap<>();
+        if (CollectionUtils.isEmpty(deltas)) {
+            return result;
+        }
+
+        return execute(() -> {
+            for (List<Map.Entry<String, Long>> chunk : CollectionUtils.split(deltas.entrySet(), getBatchSize())) {
+                RBatch batch = getRedissonClient().createBatch();
+                for (Map.Entry<String, Long> entry : chunk) {
+                    batch.getAtomicLong(entry.getKey()).addAndGetAsync(entry.getValue());
+                }
+                List<?> responses = batch.execute().getResponses();
+                for (int i = 0; i < chunk.size(); i++) {
+                    result.put(chunk.get(i).getKey(), (Long) responses.get(i));
+                }
+            }
+            return result;
+        });
+    }
+
+    // ==================== 缓存加载 ====================
+
+    /**
+     * 读取缓存，未命中时调用 loader 加载并写入缓存（Cache-Aside）
+     * <p>
+     * 同一节点内相同 key 的并发加载会被合并为一次；临近过期时按 XFetch 算法概率性地在后台提前刷新，
+     * 刷新期间直接返回当前值，loader 此时在刷新线程中执行；
+     * loader 返回 null 时按配置缓存空值以防止缓存穿透。
+     * 通过本方法写入的值会包装为 {@link CacheEntry}，请同样通过本方法读取
+     *
+     * @param key      缓存键
+     * @param duration 过期时间，为 null 时不过期
+     * @param loader   缓存未命中时的加载逻辑
+     * @return 缓存值
+     */
+    public static <T> T getOrLoad(String key, Duration duration, Supplier<T> loader) {
+        return getOrLoad(key, duration, loader, false);
+    }
+
+    /**
+     * 读取缓存，未命中时调用 loader 加载并写入缓存（Cache-Aside）
+     *
+     * @param key         缓存键
+     * @param duration    过期时间，为 null 时不过期
+     * @param loader      缓存未命中时的加载逻辑
+     * @param distributed 是否额外使用分布式锁保证集群内只有一个节点执行加载
+     * @return 缓存值
+     * @see #getOrLoad(String, Duration, Supplier)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getOrLoad(String key, Duration duration, Supplier<T> loader, boolean distributed) {
+        Object cached = getObject(key);
+        if (cached != null && !(cached instanceof CacheEntry)) {
+            // 非 getOrLoad 写入的值，直接返回
+            return (T) cached;
+        }
+
+        CacheEntry entry = (CacheEntry) cached;
+        if (entry != null) {
+            if (shouldRefreshEarly(entry)) {
+                refreshAsync(key, duration, loader, distributed, entry);
+            }
+            return (T) entry.getValue();
+        }
+        return SINGLE_FLIGHT.execute(key, () -> load(key, duration, loader, distributed));
     }
 
     // ==================== Map 操作 ====================
@@ -91,13 +291,16 @@ public abstract class CacheUtil {
      * @param <V>    Map 值的类型
      */
     public static <K, V> void put(String mapKey, K key, V value) {
-        RMap<K, V> map = getRedissonClient().getMap(mapKey);
-        map.put(key, value);
+        run(() -> {
+            RMap<K, V> map = getRedissonClient().getMap(mapKey);
+            map.put(key, value);
+        });
     }
 
     /**
      * 向 Map 中存入一个键值对，并设置整个 Map 的过期时间。
-     * 如果 Map 不存在，则会自动创建。
+     * 如果 Map 不存在，则会自动创建。写入与设置过期时间在同一次管道中提交。
+     * 注意每次写入都会重置整个 Map 的过期时间，需要字段级过期时请使用 {@link #putWithEntryTtl}
      *
      * @param mapKey   整个 Map 的缓存键
      * @param key      Map 中的键
@@ -107,11 +310,35 @@ public abstract class CacheUtil {
      * @param <V>      Map 值的类型
      */
     public static <K, V> void put(String mapKey, K key, V value, Duration duration) {
-        RMap<K, V> map = getRedissonClient().getMap(mapKey);
-        map.put(key, value);
-        if (duration != null) {
-            map.expire(duration);
+        if (duration == null) {
+            put(mapKey, key, value);
+            return;
         }
+        run(() -> {
+            RBatch batch = getRedissonClient().createBatch();
+            RMapAsync<K, V> map = batch.getMap(mapKey);
+            map.fastPutAsync(key, value);
+            map.expireAsync(duration);
+            batch.execute();
+        });
+    }
+
+    /**
+     * 向 Map 中存入一个键值对，并仅为该字段设置过期时间（基于 HPEXPIRE，需要 Redis 7.4+）。
+     * 与其他 Map 方法操作的是同一个 Hash，可混合使用。
+     *
+     * @param mapKey   整个 Map 的缓存键
+     * @param key      Map 中的键
+     * @param value    Map 中的值
+     * @param duration 字段的过期时间
+     * @param <K>      Map 键的类型
+     * @param <V>      Map 值的类型
+     */
+    public static <K, V> void putWithEntryTtl(String mapKey, K key, V value, Duration duration) {
+        run(() -> {
+            RMapCacheNative<K, V> map = getRedissonClient().getMapCacheNative(mapKey);
+            map.fastPut(key, value, duration);
+        });
     }
 
     /**
@@ -123,8 +350,86 @@ public abstract class CacheUtil {
      * @param <V>    Map 值的类型
      */
     public static <K, V> void putAll(String mapKey, Map<? extends K, ? extends V> m) {
-        RMap<K, V> map = getRedissonClient().getMap(mapKey);
-        map.putAll(m);
+        run(() -> {
+            RMap<K, V> map = getRedissonClient().getMap(mapKey);
+            map.putAll(m);
+        });
+    }
+
+    /**
+     * 批量向 Map 中存入键值对，并设置整个 Map 的过期时间，写入与设置过期时间在同一次管道中提交。
+     *
+     * @param mapKey   整个 Map 的缓存键
+     * @param m        包含多个键值对的 Map
+     * @param duration Map 的过期时间
+     * @param <K>      Map 键的类型
+     * @param <V>      Map 值的类型
+     */
+    public static <K, V> void putAll(String mapKey, Map<? extends K, ? extends V> m, Duration duration) {
+        if (duration == null) {
+            putAll(mapKey, m);
+            return;
+        }
+        if (CollectionUtils.isEmpty(m)) {
+            return;
+        }
+        run(() -> {
+            RBatch batch = getRedissonClient().createBatch();
+            RMapAsync<K, V> map = batch.getMap(mapKey);
+            map.putAllAsync(m);
+            map.expireAsync(duration);
+            batch.execute();
+        });
+    }
+
+    /**
+     * 批量向 Map 中存入键值对，并为这些字段设置相同的过期时间（基于 HPEXPIRE，需要 Redis 7.4+）。
+     *
+     * @param mapKey   整个 Map 的缓存键
+     * @param m        包含多个键值对的 Map
+     * @param duration 字段的过期时间
+     * @param <K>      Map 键的类型
+     * @param <V>      Map 值的类型
+     */
+    public static <K, V> void putAllWithEntryTtl(String mapKey, Map<? extends K, ? extends V> m, Duration duration) {
+        if (CollectionUtils.isEmpty(m)) {
+            return;
+        }
+        run(() -> {
+            RMapCacheNative<K, V> map = getRedissonClient().getMapCacheNative(mapKey);
+            map.putAll(m, duration);
+        });
+    }
+
+    /**
+     * 为 Map 中的指定字段设置过期时间（基于 HPEXPIRE，需要 Redis 7.4+）。
+     *
+     * @param mapKey   整个 Map 的缓存键
+     * @param key      Map 中的键
+     * @param duration 字段的过期时间
+     * @param <K>      Map 键的类型
+     * @return 字段存在且设置成功时返回 true
+     */
+    public static <K> boolean expireEntry(String mapKey, K key, Duration duration) {
+        return execute(() -> {
+            RMapCacheNative<K, ?> map = getRedissonClient().getMapCacheNative(mapKey);
+            return map.expireEntry(key, duration);
+        });
+    }
+
+    /**
+     * 获取 Map 中指定字段的剩余存活时间。
+     *
+     * @param mapKey 整个 Map 的缓存键
+     * @param key    Map 中的键
+     * @param <K>    Map 键的类型
+     * @return 剩余时间（毫秒）, -2表示字段不存在, -1表示字段存在但无过期时间
+     */
+    public static <K> long getEntryTimeToLive(String mapKey, K key) {
+        return execute(() -> {
+            RMapCacheNative<K, ?> map = getRedissonClient().getMapCacheNative(mapKey);
+            return map.remainTimeToLive(key);
+        });
     }
 
     /**
@@ -137,8 +442,29 @@ public abstract class CacheUtil {
      * @return Map 中该键对应的值，如果键不存在则返回 null
      */
     public static <K, V> V getMap(String mapKey, K key) {
-        RMap<K, V> map = getRedissonClient().getMap(mapKey);
-        return map.get(key);
+        return execute(() -> {
+            RMap<K, V> map = getRedissonClient().getMap(mapKey);
+            return map.get(key);
+        });
+    }
+
+    /**
+     * 从 Map 中批量获取指定键的值（HMGET，一次往返）。
+     *
+     * @param mapKey 整个 Map 的缓存键
+     * @param keys   Map 中的键
+     * @param <K>    Map 键的类型
+     * @param <V>    Map 值的类型
+     * @return 存在的键值对
+     */
+    public static <K, V> Map<K, V> getAll(String mapKey, Set<K> keys) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return new HashMap<>();
+        }
+        return execute(() -> {
+            RMap<K, V> map = getRedissonClient().getMap(mapKey);
+            return map.getAll(keys);
+        });
     }
 
     /**
@@ -150,8 +476,10 @@ public abstract class CacheUtil {
      * @return 一个包含 Map 所有键值对的普通 Java Map
      */
     public static <K, V> Map<K, V> getMap(String mapKey) {
-        RMap<K, V> map = getRedissonClient().getMap(mapKey);
-        return map.readAllMap();
+        return execute(() -> {
+            RMap<K, V> map = getRedissonClient().getMap(mapKey);
+            return map.readAllMap();
+        });
     }
 
     /**
@@ -164,8 +492,10 @@ public abstract class CacheUtil {
      * @return 被删除的键所对应的值，如果键不存在则返回 null
      */
     public static <K, V> V remove(String mapKey, K key) {
-        RMap<K, V> map = getRedissonClient().getMap(mapKey);
-        return map.remove(key);
+        return execute(() -> {
+            RMap<K, V> map = getRedissonClient().getMap(mapKey);
+            return map.remove(key);
+        });
     }
 
     /**
@@ -177,8 +507,10 @@ public abstract class CacheUtil {
      * @return 如果包含则返回 true，否则返回 false
      */
     public static <K> boolean containsKey(String mapKey, K key) {
-        RMap<K, ?> map = getRedissonClient().getMap(mapKey);
-        return map.containsKey(key);
+        return execute(() -> {
+            RMap<K, ?> map = getRedissonClient().getMap(mapKey);
+            return map.containsKey(key);
+        });
     }
 
     /**
@@ -188,8 +520,10 @@ public abstract class CacheUtil {
      * @return Map 的大小
      */
     public static long getMapSize(String mapKey) {
-        RMap<?, ?> map = getRedissonClient().getMap(mapKey);
-        return map.size();
+        return execute(() -> {
+            RMap<?, ?> map = getRedissonClient().getMap(mapKey);
+            return map.size();
+        });
     }
 
     /**
@@ -198,8 +532,10 @@ public abstract class CacheUtil {
      * @param mapKey 整个 Map 的缓存键
      */
     public static void clearMap(String mapKey) {
-        RMap<?, ?> map = getRedissonClient().getMap(mapKey);
-        map.clear();
+        run(() -> {
+            RMap<?, ?> map = getRedissonClient().getMap(mapKey);
+            map.clear();
+        });
     }
 
     /**
@@ -209,7 +545,7 @@ public abstract class CacheUtil {
      * @return 是否删除成功
      */
     public static boolean deleteMap(String mapKey) {
-        return getRedissonClient().getMap(mapKey).delete();
+        return execute(() -> getRedissonClient().getMap(mapKey).delete());
     }
 
     /**
@@ -223,7 +559,76 @@ public abstract class CacheUtil {
         if (duration == null) {
             return false;
         }
-        return getRedissonClient().getMap(mapKey).expire(duration);
+        return execute(() -> getRedissonClient().getMap(mapKey).expire(duration));
+    }
+
+    // ==================== 本地缓存 Map 操作 ====================
+
+    private static final Map<String, RLocalCachedMap<?, ?>> LOCAL_CACHED_MAPS = new ConcurrentHashMap<>();
+
+    /**
+     * 获取带本地缓存的 Map，适用于读多写少的 Hash。
+     * 读取优先命中本地缓存，写入时通过 Redis 发布失效消息同步其他节点。
+     * 同一个 mapKey 复用同一个实例，本地缓存参数见 boot.framework.cache.local-cached-map
+     *
+     * @param mapKey 整个 Map 的缓存键
+     * @param <K>    Map 键的类型
+     * @param <V>    Map 值的类型
+     * @return 带本地缓存的 Map
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> RLocalCachedMap<K, V> getLocalCachedMap(String mapKey) {
+        return (RLocalCachedMap<K, V>) LOCAL_CACHED_MAPS.computeIfAbsent(mapKey, CacheUtil::createLocalCachedMap);
+    }
+
+    /**
+     * 从带本地缓存的 Map 中获取指定键的值。
+     *
+     * @param mapKey 整个 Map 的缓存键
+     * @param key    Map 中的键
+     * @param <K>    Map 键的类型
+     * @param <V>    Map 值的类型
+     * @return Map 中该键对应的值，如果键不存在则返回 null
+     */
+    public static <K, V> V getLocalCached(String mapKey, K key) {
+        RLocalCachedMap<K, V> map = getLocalCachedMap(mapKey);
+        return map.get(key);
+    }
+
+    /**
+     * 向带本地缓存的 Map 中存入一个键值对，并通知其他节点失效本地副本。
+     *
+     * @param mapKey 整个 Map 的缓存键
+     * @param key    Map 中的键
+     * @param value  Map 中的值
+     * @param <K>    Map 键的类型
+     * @param <V>    Map 值的类型
+     */
+    public static <K, V> void putLocalCached(String mapKey, K key, V value) {
+        RLocalCachedMap<K, V> map = getLocalCachedMap(mapKey);
+        map.fastPut(key, value);
+    }
+
+    /**
+     * 销毁带本地缓存的 Map 实例，释放本地缓存与失效消息订阅，Redis 中的数据不受影响。
+     * 实例在调用本方法或容器关闭前一直保留，不再使用的 mapKey 需主动销毁
+     *
+     * @param mapKey 整个 Map 的缓存键
+     */
+    public static void destroyLocalCachedMap(String mapKey) {
+        RLocalCachedMap<?, ?> map = LOCAL_CACHED_MAPS.remove(mapKey);
+        if (map != null) {
+            map.destroy();
+        }
+    }
+
+    /**
+     * 销毁全部带本地缓存的 Map 实例，容器关闭时自动调用
+     */
+    public static void destroyLocalCachedMaps() {
+        for (String mapKey : List.copyOf(LOCAL_CACHED_MAPS.keySet())) {
+            destroyLocalCachedMap(mapKey);
+        }
     }
 
     // ==================== 其他实用操作 ====================
@@ -237,21 +642,30 @@ public abstract class CacheUtil {
      * @return 是否设置成功
      */
     public static <T> boolean setIfAbsent(String key, T value, Duration duration) {
-        RBucket<T> bucket = getRedissonClient().getBucket(key);
-        if (duration != null) {
-            return bucket.setIfAbsent(value, duration);
+        boolean success = execute(() -> {
+            RBucket<T> bucket = getRedissonClient().getBucket(key);
+            return duration != null ? bucket.setIfAbsent(value, duration) : bucket.setIfAbsent(value);
+        });
+        if (success) {
+            invalidateNearCache(key);
         }
-        return bucket.setIfAbsent(value);
+        return success;
     }
 
     /**
      * 删除缓存键
+     * 启用熔断时，删除操作因熔断打开或重放未完成而进入队列或被丢弃时返回 false，此时无法得知键原先是否存在
      *
      * @param key 缓存键
      * @return 是否删除成功
      */
     public static boolean delete(String key) {
-        return getRedissonClient().getBucket(key).delete();
+        boolean[] deleted = new boolean[1];
+        write(key, null, () -> {
+            deleted[0] = getRedissonClient().getBucket(key).delete();
+            invalidateNearCache(key);
+        });
+        return deleted[0];
     }
 
     /**
@@ -261,7 +675,7 @@ public abstract class CacheUtil {
      * @return 是否存在
      */
     public static boolean exists(String key) {
-        return getRedissonClient().getBucket(key).isExists();
+        return execute(() -> getRedissonClient().getBucket(key).isExists());
     }
 
     /**
@@ -275,7 +689,11 @@ public abstract class CacheUtil {
         if (duration == null) {
             return false;
         }
-        return getRedissonClient().getBucket(key).expire(duration);
+        return execute(() -> {
+            boolean success = getRedissonClient().getBucket(key).expire(duration);
+            invalidateNearCache(key);
+            return success;
+        });
     }
 
     /**
@@ -285,7 +703,7 @@ public abstract class CacheUtil {
      * @return 剩余时间（毫秒）, -2表示键不存在, -1表示键存在但无过期时间
      */
     public static long getTimeToLive(String key) {
-        return getRedissonClient().getBucket(key).remainTimeToLive();
+        return execute(() -> getRedissonClient().getBucket(key).remainTimeToLive());
     }
 
     /**
@@ -295,7 +713,7 @@ public abstract class CacheUtil {
      * @return 递增后的值
      */
     public static long increment(String key) {
-        return getRedissonClient().getAtomicLong(key).incrementAndGet();
+        return execute(() -> getRedissonClient().getAtomicLong(key).incrementAndGet());
     }
 
     /**
@@ -305,7 +723,33 @@ public abstract class CacheUtil {
      * @return 递减后的值
      */
     public static long decrement(String key) {
-        return getRedissonClient().getAtomicLong(key).decrementAndGet();
+        return execute(() -> getRedissonClient().getAtomicLong(key).decrementAndGet());
+    }
+
+    /**
+     * 本地聚合计数，增量按周期批量写入 Redis，未启用本地聚合计数器时直接写入
+     *
+     * @param key   计数器键
+     * @param delta 增量
+     */
+    public static void incrementBuffered(String key, long delta) {
+        BufferedCounter counter = getBufferedCounter();
+        if (counter != null) {
+            counter.add(key, delta);
+        } else {
+            getRedissonClient().getAtomicLong(key).addAndGet(delta);
+        }
+    }
+
+    /**
+     * 近似读取本地聚合计数：Redis 中的值加上本节点尚未写出的增量
+     *
+     * @param key 计数器键
+     * @return 计数值
+     */
+    public static long getBufferedCount(String key) {
+        BufferedCounter counter = getBufferedCounter();
+        return counter != null ? counter.get(key) : getRedissonClient().getAtomicLong(key).get();
     }
 
     /**
@@ -315,24 +759,347 @@ public abstract class CacheUtil {
      * @param message 消息
      */
     public static <T> void publish(String channel, T message) {
-        getRedissonClient().getTopic(channel).publish(message);
+        run(() -> getRedissonClient().getTopic(channel).publish(message));
+    }
+
+    /**
+     * 合并发布消息，未启用合并发布时直接发布
+     * 订阅方需通过 {@link MessageDispatcher} 订阅以拆分合并后的批次
+     *
+     * @param channel 频道
+     * @param message 消息
+     */
+    public static <T> void publishBatched(String channel, T message) {
+        BatchingPublisher publisher = PubSubHolder.PUBLISHER;
+        if (publisher != null) {
+            publisher.publish(channel, message);
+        } else {
+            publish(channel, message);
+        }
+    }
+
+    /**
+     * 订阅频道中指定类型的消息，监听器在分发线程池中执行
+     *
+     * @param channel  频道
+     * @param type     消息类型
+     * @param listener 监听器
+     * @return 订阅句柄，关闭后取消订阅
+     */
+    public static <T> MessageDispatcher.Subscription subscribe(String channel, Class<T> type,
+                                                               Consumer<? super T> listener) {
+        return Requires.requireNotNull(PubSubHolder.DISPATCHER, "消息分发器未启用").subscribe(channel, type, listener);
     }
 
     /**
      * 扫描匹配的键
+     * 会将全部匹配的键加载到内存中，匹配数量较大时请使用 {@link #forEachKey(String, Consumer)} 或 {@link #scanIterator(String)}
      *
      * @param pattern 匹配模式
      * @return 匹配的键列表
      */
     public static Collection<String> scan(String pattern) {
         RKeys rKeys = getRedissonClient().getKeys();
-        KeysScanParams options = new KeysScanParams();
-        options.pattern(pattern);
-        return rKeys.getKeysStream(options).toList();
+        return rKeys.getKeysStream(scanOptions(pattern, getScanCount())).toList();
+    }
+
+    // ==================== 游标扫描 ====================
+
+    /**
+     * 获取匹配键的游标迭代器，按需通过 SCAN 分批拉取，内存占用与匹配数量无关
+     *
+     * @param pattern 匹配模式
+     * @return 键迭代器
+     */
+    public static Iterator<String> scanIterator(String pattern) {
+        return scanIterator(pattern, getScanCount());
+    }
+
+    /**
+     * 获取匹配键的游标迭代器，按需通过 SCAN 分批拉取，内存占用与匹配数量无关
+     *
+     * @param pattern 匹配模式
+     * @param count   每次 SCAN 的 COUNT 参数
+     * @return 键迭代器
+     */
+    public static Iterator<String> scanIterator(String pattern, int count) {
+        return getRedissonClient().getKeys().getKeys(scanOptions(pattern, count)).iterator();
+    }
+
+    /**
+     * 逐个处理匹配的键
+     *
+     * @param pattern  匹配模式
+     * @param consumer 键处理逻辑
+     */
+    public static void forEachKey(String pattern, Consumer<String> consumer) {
+        forEachKey(pattern, getScanCount(), consumer);
+    }
+
+    /**
+     * 逐个处理匹配的键
+     *
+     * @param pattern  匹配模式
+     * @param count    每次 SCAN 的 COUNT 参数
+     * @param consumer 键处理逻辑
+     */
+    public static void forEachKey(String pattern, int count, Consumer<String> consumer) {
+        scanIterator(pattern, count).forEachRemaining(consumer);
+    }
+
+    /**
+     * 删除匹配的键
+     * 边扫描边以 UNLINK 分批删除，每批最多 batchSize 个键，不会一次性加载全部键
+     *
+     * @param pattern 匹配模式
+     * @return 删除的键数量
+     */
+    public static long deleteByPattern(String pattern) {
+        RKeys rKeys = getRedissonClient().getKeys();
+        int batchSize = getBatchSize();
+        List<String> chunk = new ArrayList<>(batchSize);
+        long deleted = 0;
+
+        Iterator<String> iterator = scanIterator(pattern);
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() >= batchSize) {
+                deleted += unlink(rKeys, chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            deleted += unlink(rKeys, chunk);
+        }
+        return deleted;
+    }
+
+    // ==================== 异步与响应式 ====================
+
+    /**
+     * 获取异步缓存操作，返回值均为 {@link java.util.concurrent.CompletionStage}，不阻塞调用线程
+     */
+    public static AsyncCacheOperations async() {
+        return AsyncCacheOperations.INSTANCE;
+    }
+
+    /**
+     * 获取响应式缓存操作，返回值均为 {@link reactor.core.publisher.Mono}
+     */
+    public static ReactiveCacheOperations reactive() {
+        return ReactiveCacheOperations.INSTANCE;
     }
 
     // ==================== 内部方法 ====================
 
+    private static RLocalCachedMap<?, ?> createLocalCachedMap(String mapKey) {
+        CacheProperties.LocalCachedMapProperties properties = CachePropertiesHolder.INSTANCE.getLocalCachedMap();
+        if (LOCAL_CACHED_MAPS.size() >= properties.getMaxInstances()) {
+            LogUtils.warn("本地缓存 Map 实例数超过上限, 不再使用的 mapKey 请调用 destroyLocalCachedMap 销毁, "
+                    + "mapKey: {}, instances: {}", mapKey, LOCAL_CACHED_MAPS.size());
+        }
+        LocalCachedMapOptions<Object, Object> options = LocalCachedMapOptions.name(mapKey)
+                .cacheSize(properties.getCacheSize())
+                .timeToLive(properties.getTimeToLive())
+                .maxIdle(properties.getMaxIdle())
+                .evictionPolicy(properties.getEvictionPolicy())
+                .syncStrategy(properties.getSyncStrategy())
+                .reconnectionStrategy(properties.getReconnectionStrategy());
+        return getRedissonClient().getLocalCachedMap(options);
+    }
+
+    private static KeysScanOptions scanOptions(String pattern, int count) {
+        return KeysScanOptions.defaults().pattern(pattern).chunkSize(count);
+    }
+
+    private static long unlink(RKeys rKeys, List<String> keys) {
+        long unlinked = rKeys.unlink(keys.toArray(new String[0]));
+        invalidateNearCache(keys);
+        return unlinked;
+    }
+
+    private static final SingleFlight SINGLE_FLIGHT = new SingleFlight();
+
+    private static final Set<String> REFRESHING = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 读取缓存值：近端缓存覆盖的键走近端缓存，其余热点键走本地提升副本
+     */
+    private static <T> T get(String key, Codec codec) {
+        return read(key, () -> {
+            NearCache nearCache = getNearCache();
+            boolean nearCacheable = nearCache != null && nearCache.isCacheable(key);
+            HotKeyDetector detector = getHotKeyDetector();
+            if (detector != null && detector.recordAccess(key) && !nearCacheable) {
+                return detector.get(key, codec, () -> CacheUtil.<T>getBucket(key, codec).get());
+            }
+            if (nearCacheable) {
+                return nearCache.get(key, codec);
+            }
+            return CacheUtil.<T>getBucket(key, codec).get();
+        });
+    }
+
+    // ==================== 熔断保护 ====================
+
+    private static <T> T read(String key, Supplier<T> call) {
+        RedisCircuitBreaker breaker = getCircuitBreaker();
+        return breaker != null ? breaker.read(key, call) : call.get();
+    }
+
+    private static <T> Map<String, T> readAll(Collection<String> keys, Supplier<Map<String, T>> call) {
+        RedisCircuitBreaker breaker = getCircuitBreaker();
+        return breaker != null ? breaker.readAll(keys, call) : call.get();
+    }
+
+    private static void write(String key, Object value, Runnable call) {
+        RedisCircuitBreaker breaker = getCircuitBreaker();
+        if (breaker != null) {
+            breaker.write(key, value, call);
+        } else {
+            call.run();
+        }
+    }
+
+    private static void writeAll(Collection<String> keys, Function<String, Object> valueOf, Runnable call) {
+        RedisCircuitBreaker breaker = getCircuitBreaker();
+        if (breaker != null) {
+            breaker.writeAll(keys, valueOf, call);
+        } else {
+            call.run();
+        }
+    }
+
+    private static <T> T execute(Supplier<T> call) {
+        RedisCircuitBreaker breaker = getCircuitBreaker();
+        return breaker != null ? breaker.execute(call) : call.get();
+    }
+
+    private static void run(Runnable call) {
+        execute(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private static <T> RBucket<T> getBucket(String key, Codec codec) {
+        return codec == null ? getRedissonClient().getBucket(key) : getRedissonClient().getBucket(key, codec);
+    }
+
+    /**
+     * XFetch：now - delta * beta * ln(rand) >= expireAt 时提前刷新，越接近过期、加载越慢，提前刷新的概率越大
+     */
+    private static boolean shouldRefreshEarly(CacheEntry entry) {
+        double beta = CachePropertiesHolder.INSTANCE.getLoader().getEarlyRefreshBeta();
+        if (beta <= 0 || entry.getDelta() <= 0 || entry.getExpireAt() == Long.MAX_VALUE) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        return System.currentTimeMillis() - entry.getDelta() * beta * Math.log(random) >= entry.getExpireAt();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T load(String key, Duration duration, Supplier<T> loader, boolean distributed) {
+        if (!distributed || !isRedisAvailable()) {
+            // Redis 不可用时无法获取分布式锁，退化为节点内合并加载
+            return loadAndCache(key, duration, loader);
+        }
+
+        CacheProperties.LoaderProperties properties = CachePropertiesHolder.INSTANCE.getLoader();
+        try (LockHandle handle = LockUtil.tryAcquire(properties.getLockKeyPrefix() + key,
+                properties.getLockWaitTime().toMillis(), TimeUnit.MILLISECONDS)) {
+            if (handle.isLocked()) {
+                // 双重检查：等待期间其他节点可能已完成加载
+                if (getRedissonClient().getBucket(key).get() instanceof CacheEntry entry) {
+                    return (T) entry.getValue();
+                }
+            } else if (Thread.currentThread().isInterrupted()) {
+                throw new LockException("Cache load interrupted, key: " + key);
+            }
+            return loadAndCache(key, duration, loader);
+        }
+    }
+
+    /**
+     * 在后台提前刷新，同一节点内相同 key 同一时刻只提交一个刷新任务，刷新线程繁忙时放弃本次刷新
+     */
+    private static <T> void refreshAsync(String key, Duration duration, Supplier<T> loader, boolean distributed,
+                                         CacheEntry stale) {
+        if (!REFRESHING.add(key)) {
+            return;
+        }
+        try {
+            RefreshExecutorHolder.INSTANCE.execute(() -> {
+                try {
+                    refresh(key, duration, loader, distributed, stale);
+                } catch (Exception e) {
+                    LogUtils.error("Cache refresh failed, key: {}", e, key);
+                } finally {
+                    REFRESHING.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            REFRESHING.remove(key);
+        }
+    }
+
+    private static <T> void refresh(String key, Duration duration, Supplier<T> loader, boolean distributed,
+                                    CacheEntry stale) {
+        if (!distributed || !isRedisAvailable()) {
+            loadAndCache(key, duration, loader);
+            return;
+        }
+
+        // 不等待锁：其他节点正在刷新时旧值仍然有效，直接放弃
+        String lockKey = CachePropertiesHolder.INSTANCE.getLoader().getLockKeyPrefix() + key;
+        try (LockHandle handle = LockUtil.tryAcquire(lockKey, 0, TimeUnit.MILLISECONDS)) {
+            if (!handle.isLocked()) {
+                return;
+            }
+            Object current = getRedissonClient().getBucket(key).get();
+            if (current instanceof CacheEntry entry && entry.getExpireAt() != stale.getExpireAt()) {
+                return;
+            }
+            loadAndCache(key, duration, loader);
+        }
+    }
+
+    private static boolean isRedisAvailable() {
+        RedisCircuitBreaker breaker = getCircuitBreaker();
+        return breaker == null || breaker.isClosed();
+    }
+
+    private static <T> T loadAndCache(String key, Duration duration, Supplier<T> loader) {
+        long start = System.currentTimeMillis();
+        T value = loader.get();
+        long now = System.currentTimeMillis();
+
+        Duration ttl = value != null ? duration : CachePropertiesHolder.INSTANCE.getLoader().getNullValueTtl();
+        if (value == null && (ttl == null || ttl.isZero() || ttl.isNegative())) {
+            return null;
+        }
+        long expireAt = ttl != null ? now + ttl.toMillis() : Long.MAX_VALUE;
+        setObject(key, new CacheEntry(value, now - start, expireAt), ttl);
+        return value;
+    }
+
+    private static class RefreshExecutorHolder {
+        private static final ExecutorService INSTANCE = createRefreshExecutor();
+
+        private static ExecutorService createRefreshExecutor() {
+            int threads = Math.max(1, CachePropertiesHolder.INSTANCE.getLoader().getRefreshThreads());
+            AtomicInteger index = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(threads * 256), runnable -> {
+                Thread thread = new Thread(runnable, "cache-refresh-" + index.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
     private static class RedissonClientHolder {
         private static final RedissonClient INSTANCE = Requires.requireNotNull(
                 SpringContextHolder.getApplicationContext().getBean(RedissonClient.class), "缓存模块尚未加载");
@@ -342,4 +1109,109 @@ public abstract class CacheUtil {
         return RedissonClientHolder.INSTANCE;
     }
 
+    private static class CachePropertiesHolder {
+        private static final CacheProperties INSTANCE = SpringContextHolder.getApplicationContext()
+                .getBeanProvider(CacheProperties.class).getIfAvailable(CacheProperties::new);
+    }
+
+    static int getBatchSize() {
+        return Math.max(1, CachePropertiesHolder.INSTANCE.getBatchSize());
+    }
+
+    static int getScanCount() {
+        return Math.max(1, CachePropertiesHolder.INSTANCE.getScanCount());
+    }
+
+    private static class NearCacheHolder {
+        private static final NearCache INSTANCE = SpringContextHolder.getApplicationContext()
+                .getBeanProvider(NearCache.class).getIfAvailable();
+    }
+
+    /**
+     * 获取近端缓存，未启用时返回 null
+     */
+    public static NearCache getNearCache() {
+        return NearCacheHolder.INSTANCE;
+    }
+
+    private static class PubSubHolder {
+        private static final BatchingPublisher PUBLISHER = SpringContextHolder.getApplicationContext()
+                .getBeanProvider(BatchingPublisher.class).getIfAvailable();
+        private static final MessageDispatcher DISPATCHER = SpringContextHolder.getApplicationContext()
+                .getBeanProvider(MessageDispatcher.class).getIfAvailable();
+    }
+
+    private static class BufferedCounterHolder {
+        private static final BufferedCounter INSTANCE = SpringContextHolder.getApplicationContext()
+                .getBeanProvider(BufferedCounter.class).getIfAvailable();
+    }
+
+    /**
+     * 获取本地聚合计数器，未启用时返回 null
+     */
+    public static BufferedCounter getBufferedCounter() {
+        return BufferedCounterHolder.INSTANCE;
+    }
+
+    private static class CircuitBreakerHolder {
+        private static final RedisCircuitBreaker INSTANCE = SpringContextHolder.getApplicationContext()
+                .getBeanProvider(RedisCircuitBreaker.class).getIfAvailable();
+    }
+
+    /**
+     * 获取 Redis 熔断器，未启用时返回 null
+     */
+    public static RedisCircuitBreaker getCircuitBreaker() {
+        return CircuitBreakerHolder.INSTANCE;
+    }
+
+    private static class HotKeyDetectorHolder {
+        private static final HotKeyDetector INSTANCE = SpringContextHolder.getApplicationContext()
+                .getBeanProvider(HotKeyDetector.class).getIfAvailable();
+    }
+
+    /**
+     * 获取热点键探测器，未启用时返回 null
+     */
+    public static HotKeyDetector getHotKeyDetector() {
+        return HotKeyDetectorHolder.INSTANCE;
+    }
+
+    static void invalidateNearCache(String key) {
+        NearCache nearCache = getNearCache();
+        if (nearCache != null && nearCache.isCacheable(key)) {
+            nearCache.invalidate(key);
+        }
+        HotKeyDetector detector = getHotKeyDetector();
+        if (detector != null) {
+            detector.invalidate(key);
+        }
+    }
+
+    /**
+     * 异步使近端缓存失效，失效消息通过 publishAsync 发布，可在 Redisson 回调线程中调用
+     */
+    static CompletionStage<Void> invalidateNearCacheAsync(Collection<String> keys) {
+        HotKeyDetector detector = getHotKeyDetector();
+        if (detector != null) {
+            detector.invalidate(keys);
+        }
+        NearCache nearCache = getNearCache();
+        if (nearCache == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return nearCache.invalidateAsync(keys.stream().filter(nearCache::isCacheable).toList());
+    }
+
+    static void invalidateNearCache(Collection<String> keys) {
+        NearCache nearCache = getNearCache();
+        if (nearCache != null) {
+            nearCache.invalidate(keys.stream().filter(nearCache::isCacheable).toList());
+        }
+        HotKeyDetector detector = getHotKeyDetector();
+        if (detector != null) {
+            detector.invalidate(keys);
+        }
+    }
+
 }
\ No newline at end of file
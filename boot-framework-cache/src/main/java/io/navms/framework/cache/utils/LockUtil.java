@@ -1,12 +1,27 @@
 package io.navms.framework.cache.utils;
 
+import io.navms.framework.cache.config.CacheProperties;
 import io.navms.framework.cache.exception.LockException;
+import io.navms.framework.cache.lock.LockHandle;
+import io.navms.framework.cache.lock.LockMetrics;
+import io.navms.framework.cache.lock.LockStatistics;
+import io.navms.framework.cache.lock.StripedLock;
+import io.navms.framework.common.base.utils.CollectionUtils;
 import io.navms.framework.common.base.log.LogUtils;
 import io.navms.framework.common.base.utils.Requires;
 import io.navms.framework.common.base.utils.SpringContextHolder;
+import org.redisson.api.RCountDownLatch;
 import org.redisson.api.RLock;
+import org.redisson.api.RPermitExpirableSemaphore;
+import org.redisson.api.RReadWriteLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationContext;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -31,6 +46,27 @@ public abstract class LockUtil {
         return getRedissonClient().getFairLock(lockKey);
     }
 
+    /**
+     * 获取读写锁
+     */
+    public static RReadWriteLock getReadWriteLock(String lockKey) {
+        return getRedissonClient().getReadWriteLock(lockKey);
+    }
+
+    /**
+     * 获取可过期许可信号量
+     */
+    public static RPermitExpirableSemaphore getSemaphore(String semaphoreKey) {
+        return getRedissonClient().getPermitExpirableSemaphore(semaphoreKey);
+    }
+
+    /**
+     * 获取闭锁
+     */
+    public static RCountDownLatch getCountDownLatch(String latchKey) {
+        return getRedissonClient().getCountDownLatch(latchKey);
+    }
+
     /**
      * 尝试获取锁
      *
@@ -114,8 +150,10 @@ public abstract class LockUtil {
      */
     public static void unlock(String lockKey) {
         RLock lock = getLock(lockKey);
-        if (lock.isHeldByCurrentThread()) {
+        try {
             lock.unlock();
+        } catch (IllegalMonitorStateException e) {
+            LogUtils.warn("Unlock ignored, lock is not held by current thread, lockKey: {}", lockKey);
         }
     }
 
@@ -182,31 +220,10 @@ public abstract class LockUtil {
      * @param unit     时间单位
      */
     public static void executeWithLock(String lockKey, Runnable task, long waitTime, TimeUnit unit) {
-        RLock lock = getLock(lockKey);
-        boolean locked = false;
-        try {
-            if (waitTime >= 0) {
-                locked = lock.tryLock(waitTime, unit);
-            } else {
-                lock.lock();
-                locked = true;
-            }
-
-            if (locked) {
-                task.run();
-            } else {
-                throw new LockException("Acquire lock timeout, lockKey: " + lockKey);
-            }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new LockException("Lock interrupted", e);
-        } catch (Exception e) {
-            throw new LockException("Execute with lock failed", e);
-        } finally {
-            if (locked && lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
-        }
+        executeWithLock(lockKey, () -> {
+            task.run();
+            return null;
+        }, waitTime, unit);
     }
 
     /**
@@ -238,36 +255,470 @@ public abstract class LockUtil {
      * @param unit     时间单位
      */
     public static <T> T executeWithLock(String lockKey, Supplier<T> task, long waitTime, TimeUnit unit) {
+        return execute(() -> acquire(lockKey, getLock(lockKey), false, waitTime, -1, unit), task);
+    }
+
+    // ==================== 读写锁 ====================
+
+    /**
+     * 持有读锁执行操作，多个读操作可并发执行，与写操作互斥
+     *
+     * @param lockKey 锁key
+     * @param task    待执行的任务
+     */
+    public static void executeWithReadLock(String lockKey, Runnable task) {
+        executeWithReadLock(lockKey, task, -1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 持有读锁执行操作，多个读操作可并发执行，与写操作互斥
+     *
+     * @param lockKey  锁key
+     * @param task     待执行任务
+     * @param waitTime 等待时间，小于 0 时阻塞等待
+     * @param unit     时间单位
+     */
+    public static void executeWithReadLock(String lockKey, Runnable task, long waitTime, TimeUnit unit) {
+        executeWithReadLock(lockKey, () -> {
+            task.run();
+            return null;
+        }, waitTime, unit);
+    }
+
+    /**
+     * 持有读锁执行操作并返回结果，多个读操作可并发执行，与写操作互斥
+     *
+     * @param lockKey 锁key
+     * @param task    待执行的任务
+     */
+    public static <T> T executeWithReadLock(String lockKey, Supplier<T> task) {
+        return executeWithReadLock(lockKey, task, -1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 持有读锁执行操作并返回结果，多个读操作可并发执行，与写操作互斥
+     *
+     * @param lockKey  锁key
+     * @param task     待执行任务
+     * @param waitTime 等待时间，小于 0 时阻塞等待
+     * @param unit     时间单位
+     */
+    public static <T> T executeWithReadLock(String lockKey, Supplier<T> task, long waitTime, TimeUnit unit) {
+        return execute(() -> acquire(lockKey, getReadWriteLock(lockKey).readLock(), false, waitTime, -1, unit), task);
+    }
+
+    /**
+     * 持有写锁执行操作，与其他读写操作均互斥
+     *
+     * @param lockKey 锁key
+     * @param task    待执行的任务
+     */
+    public static void executeWithWriteLock(String lockKey, Runnable task) {
+        executeWithWriteLock(lockKey, task, -1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 持有写锁执行操作，与其他读写操作均互斥
+     *
+     * @param lockKey  锁key
+     * @param task     待执行任务
+     * @param waitTime 等待时间，小于 0 时阻塞等待
+     * @param unit     时间单位
+     */
+    public static void executeWithWriteLock(String lockKey, Runnable task, long waitTime, TimeUnit unit) {
+        executeWithWriteLock(lockKey, () -> {
+            task.run();
+            return null;
+        }, waitTime, unit);
+    }
+
+    /**
+     * 持有写锁执行操作并返回结果，与其他读写操作均互斥
+     *
+     * @param lockKey 锁key
+     * @param task    待执行的任务
+     */
+    public static <T> T executeWithWriteLock(String lockKey, Supplier<T> task) {
+        return executeWithWriteLock(lockKey, task, -1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 持有写锁执行操作并返回结果，与其他读写操作均互斥
+     *
+     * @param lockKey  锁key
+     * @param task     待执行任务
+     * @param waitTime 等待时间，小于 0 时阻塞等待
+     * @param unit     时间单位
+     */
+    public static <T> T executeWithWriteLock(String lockKey, Supplier<T> task, long waitTime, TimeUnit unit) {
+        return execute(() -> acquire(lockKey, getReadWriteLock(lockKey).writeLock(), false, waitTime, -1, unit), task);
+    }
+
+    // ==================== 信号量 ====================
+
+    /**
+     * 持有一个许可执行操作，用于限制集群范围内的并发数
+     * 许可总数仅在信号量首次使用时设置，修改总数需调用 {@link RPermitExpirableSemaphore#setPermits(int)}
+     *
+     * @param semaphoreKey 信号量key
+     * @param permits      许可总数
+     * @param task         待执行任务
+     * @param waitTime     等待时间，小于 0 时阻塞等待
+     * @param leaseTime    许可租期，节点宕机未释放时许可到期后自动归还
+     * @param unit         时间单位
+     */
+    public static void executeWithPermit(String semaphoreKey, int permits, Runnable task,
+                                         long waitTime, long leaseTime, TimeUnit unit) {
+        executeWithPermit(semaphoreKey, permits, () -> {
+            task.run();
+            return null;
+        }, waitTime, leaseTime, unit);
+    }
+
+    /**
+     * 持有一个许可执行操作并返回结果，用于限制集群范围内的并发数
+     * 许可总数仅在信号量首次使用时设置，修改总数需调用 {@link RPermitExpirableSemaphore#setPermits(int)}
+     *
+     * @param semaphoreKey 信号量key
+     * @param permits      许可总数
+     * @param task         待执行任务
+     * @param waitTime     等待时间，小于 0 时阻塞等待
+     * @param leaseTime    许可租期，节点宕机未释放时许可到期后自动归还
+     * @param unit         时间单位
+     */
+    public static <T> T executeWithPermit(String semaphoreKey, int permits, Supplier<T> task,
+                                          long waitTime, long leaseTime, TimeUnit unit) {
+        return execute(() -> acquirePermit(semaphoreKey, permits, waitTime, leaseTime, unit), task);
+    }
+
+    /**
+     * 尝试获取一个许可并返回句柄，需通过 {@link LockHandle#isLocked()} 判断是否获取成功，关闭句柄时归还许可
+     *
+     * @param semaphoreKey 信号量key
+     * @param permits      许可总数
+     * @param waitTime     等待时间
+     * @param leaseTime    许可租期
+     * @param unit         时间单位
+     * @return 许可句柄
+     */
+    public static LockHandle tryAcquirePermit(String semaphoreKey, int permits,
+                                              long waitTime, long leaseTime, TimeUnit unit) {
+        try {
+            return acquirePermit(semaphoreKey, permits, waitTime, leaseTime, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LogUtils.error("Try acquire permit interrupted, semaphoreKey: {}", e, semaphoreKey);
+        } catch (Exception e) {
+            LogUtils.error("Try acquire permit failed, semaphoreKey: {}, waitTime: {}", e, semaphoreKey, waitTime);
+        }
+        return new LockHandle(semaphoreKey, (Runnable) null, -1, false);
+    }
+
+    // ==================== 闭锁 ====================
+
+    /**
+     * 设置闭锁计数，仅在计数已归零或闭锁不存在时生效
+     *
+     * @param latchKey 闭锁key
+     * @param count    计数
+     * @return 是否设置成功
+     */
+    public static boolean trySetCount(String latchKey, long count) {
+        return getCountDownLatch(latchKey).trySetCount(count);
+    }
+
+    /**
+     * 闭锁计数减一，归零时唤醒所有等待者
+     *
+     * @param latchKey 闭锁key
+     */
+    public static void countDown(String latchKey) {
+        getCountDownLatch(latchKey).countDown();
+    }
+
+    /**
+     * 等待闭锁计数归零
+     *
+     * @param latchKey 闭锁key
+     * @param timeout  等待时间
+     * @param unit     时间单位
+     * @return 计数是否在超时前归零
+     */
+    public static boolean await(String latchKey, long timeout, TimeUnit unit) {
+        try {
+            return getCountDownLatch(latchKey).await(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LockException("Latch await interrupted", e);
+        }
+    }
+
+    // ==================== 联锁与分段锁 ====================
+
+    /**
+     * 同时锁定多个键后执行操作，所有键均加锁成功才会执行
+     * 键会去重并排序后加锁，避免不同调用方以不同顺序加锁导致死锁
+     *
+     * @param lockKeys 锁key集合
+     * @param task     待执行任务
+     * @param waitTime 等待时间（所有键共用），小于 0 时阻塞等待
+     * @param unit     时间单位
+     */
+    public static void executeWithLocks(Collection<String> lockKeys, Runnable task, long waitTime, TimeUnit unit) {
+        executeWithLocks(lockKeys, () -> {
+            task.run();
+            return null;
+        }, waitTime, unit);
+    }
+
+    /**
+     * 同时锁定多个键后执行操作并返回结果，所有键均加锁成功才会执行
+     * 键会去重并排序后加锁，避免不同调用方以不同顺序加锁导致死锁
+     *
+     * @param lockKeys 锁key集合
+     * @param task     待执行任务
+     * @param waitTime 等待时间（所有键共用），小于 0 时阻塞等待
+     * @param unit     时间单位
+     */
+    public static <T> T executeWithLocks(Collection<String> lockKeys, Supplier<T> task, long waitTime, TimeUnit unit) {
+        if (CollectionUtils.isEmpty(lockKeys)) {
+            return task.get();
+        }
+        return execute(() -> acquireAll(lockKeys, waitTime, unit), task);
+    }
+
+    /**
+     * 尝试同时锁定多个键并返回锁句柄，需通过 {@link LockHandle#isLocked()} 判断是否加锁成功
+     * 任一键加锁失败时已加锁的键会被释放
+     *
+     * @param lockKeys 锁key集合
+     * @param waitTime 等待时间（所有键共用）
+     * @param unit     时间单位
+     * @return 锁句柄
+     */
+    public static LockHandle tryAcquireAll(Collection<String> lockKeys, long waitTime, TimeUnit unit) {
+        try {
+            return acquireAll(lockKeys, waitTime, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LogUtils.error("Try lock interrupted, lockKeys: {}", e, lockKeys);
+        } catch (Exception e) {
+            LogUtils.error("Try lock failed, lockKeys: {}, waitTime: {}", e, lockKeys, waitTime);
+        }
+        return new LockHandle(String.valueOf(lockKeys), (RLock) null, -1, false);
+    }
+
+    /**
+     * 获取分段锁，同名分段锁复用同一个实例
+     * 同一个分段锁在所有节点上的分段数必须一致，否则同一个键会落到不同的分段上；
+     * 同名分段锁以不同的分段数获取时抛出异常
+     *
+     * @param name    分段锁名称，作为分布式锁key的前缀
+     * @param stripes 分段数
+     * @return 分段锁
+     */
+    public static StripedLock getStripedLock(String name, int stripes) {
+        StripedLock stripedLock = STRIPED_LOCKS.computeIfAbsent(name, n -> new StripedLock(n, stripes));
+        if (stripedLock.getStripes() != stripes) {
+            throw new IllegalArgumentException("Striped lock already exists with different stripes, name: " + name
+                    + ", stripes: " + stripedLock.getStripes() + ", requested: " + stripes);
+        }
+        return stripedLock;
+    }
+
+    // ==================== 锁句柄 ====================
+
+    /**
+     * 加锁并返回锁句柄，由看门狗自动续期
+     *
+     * @param lockKey 锁key
+     * @return 锁句柄
+     */
+    public static LockHandle acquire(String lockKey) {
+        return acquire(lockKey, -1, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 加锁并返回锁句柄
+     *
+     * @param lockKey   锁key
+     * @param leaseTime 锁定时间
+     * @param unit      时间单位
+     * @return 锁句柄
+     */
+    public static LockHandle acquire(String lockKey, long leaseTime, TimeUnit unit) {
         RLock lock = getLock(lockKey);
-        boolean locked = false;
+        long start = System.nanoTime();
         try {
-            if (waitTime >= 0) {
-                locked = lock.tryLock(waitTime, unit);
-            } else {
-                lock.lock();
-                locked = true;
-            }
+            lock.lock(leaseTime, unit);
+        } catch (RuntimeException e) {
+            LockStatistics.INSTANCE.onFailure(lockKey, false, e);
+            throw e;
+        }
+        LockStatistics.INSTANCE.onWait(lockKey, false, System.nanoTime() - start, true);
+        return new LockHandle(lockKey, lock, leaseTime < 0 ? -1 : unit.toMillis(leaseTime), true);
+    }
 
-            if (locked) {
-                return task.get();
-            } else {
-                throw new LockException("Acquire lock timeout, lockKey: " + lockKey);
+    /**
+     * 尝试加锁并返回锁句柄，需通过 {@link LockHandle#isLocked()} 判断是否加锁成功
+     *
+     * @param lockKey  锁key
+     * @param waitTime 等待时间
+     * @param unit     时间单位
+     * @return 锁句柄
+     */
+    public static LockHandle tryAcquire(String lockKey, long waitTime, TimeUnit unit) {
+        return tryAcquire(lockKey, waitTime, -1, unit);
+    }
+
+    /**
+     * 尝试加锁并返回锁句柄，需通过 {@link LockHandle#isLocked()} 判断是否加锁成功
+     *
+     * @param lockKey   锁key
+     * @param waitTime  等待时间
+     * @param leaseTime 锁定时间，-1 表示由看门狗自动续期
+     * @param unit      时间单位
+     * @return 锁句柄
+     */
+    public static LockHandle tryAcquire(String lockKey, long waitTime, long leaseTime, TimeUnit unit) {
+        try {
+            return acquire(lockKey, waitTime, leaseTime, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LogUtils.error("Try lock interrupted, lockKey: {}", e, lockKey);
+        } catch (Exception e) {
+            LogUtils.error("Try lock failed, lockKey: {}, waitTime: {}, leaseTime: {}", e,
+                    lockKey, waitTime, leaseTime);
+        }
+        return new LockHandle(lockKey, (RLock) null, -1, false);
+    }
+
+    /**
+     * 获取通过锁句柄加锁的统计信息
+     */
+    public static LockStatistics.Snapshot getLockStatistics() {
+        return LockStatistics.INSTANCE.snapshot();
+    }
+
+    /**
+     * 获取异步锁操作
+     */
+    public static AsyncLockOperations async() {
+        return AsyncLockOperations.INSTANCE;
+    }
+
+    // ==================== 内部方法 ====================
+
+    private static final Map<String, StripedLock> STRIPED_LOCKS = new ConcurrentHashMap<>();
+
+
+    /**
+     * 在锁内执行任务，任务结束后释放锁
+     */
+    private static <T> T execute(Acquirer acquirer, Supplier<T> task) {
+        try (LockHandle handle = acquirer.acquire()) {
+            if (!handle.isLocked()) {
+                throw new LockException("Acquire lock timeout, lockKey: " + handle.getLockKey());
             }
+            return task.get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new LockException("Lock interrupted", e);
+        } catch (LockException e) {
+            throw e;
         } catch (Exception e) {
             throw new LockException("Execute with lock failed", e);
-        } finally {
-            if (locked && lock.isHeldByCurrentThread()) {
-                lock.unlock();
+        }
+    }
+
+    private static LockHandle acquirePermit(String semaphoreKey, int permits, long waitTime, long leaseTime,
+                                            TimeUnit unit) throws InterruptedException {
+        RPermitExpirableSemaphore semaphore = getSemaphore(semaphoreKey);
+        // 每次获取前都尝试初始化：许可数已设置时不做任何操作，Redis 中的 key 丢失后也能重新初始化
+        semaphore.trySetPermits(permits);
+
+        long start = System.nanoTime();
+        String permitId;
+        try {
+            permitId = waitTime >= 0
+                    ? semaphore.tryAcquire(waitTime, leaseTime, unit) : semaphore.acquire(leaseTime, unit);
+        } catch (RuntimeException e) {
+            LockStatistics.INSTANCE.onFailure(semaphoreKey, false, e);
+            throw e;
+        }
+        LockStatistics.INSTANCE.onWait(semaphoreKey, false, System.nanoTime() - start, permitId != null);
+        if (permitId == null) {
+            return new LockHandle(semaphoreKey, (Runnable) null, -1, false);
+        }
+        return new LockHandle(semaphoreKey, () -> {
+            if (!semaphore.tryRelease(permitId)) {
+                throw new IllegalMonitorStateException("Permit already expired, permitId: " + permitId);
             }
+        }, leaseTime < 0 ? -1 : unit.toMillis(leaseTime), false, true);
+    }
+
+    private static LockHandle acquireAll(Collection<String> lockKeys, long waitTime, TimeUnit unit)
+            throws InterruptedException {
+        SortedSet<String> sortedKeys = new TreeSet<>(lockKeys);
+        if (sortedKeys.size() == 1) {
+            String lockKey = sortedKeys.first();
+            return acquire(lockKey, getLock(lockKey), false, waitTime, -1, unit);
         }
+        RLock[] locks = sortedKeys.stream().map(LockUtil::getLock).toArray(RLock[]::new);
+        return acquire(sortedKeys.toString(), getRedissonClient().getMultiLock(locks), true, waitTime, -1, unit);
+    }
+
+    /**
+     * 加锁，waitTime 小于 0 时阻塞等待
+     */
+    private static LockHandle acquire(String lockKey, long waitTime, long leaseTime, TimeUnit unit)
+            throws InterruptedException {
+        return acquire(lockKey, getLock(lockKey), false, waitTime, leaseTime, unit);
+    }
+
+    /**
+     * 加锁，waitTime 小于 0 时阻塞等待，multi 表示 lock 为联锁
+     */
+    private static LockHandle acquire(String lockKey, RLock lock, boolean multi, long waitTime, long leaseTime,
+                                      TimeUnit unit) throws InterruptedException {
+        long start = System.nanoTime();
+        boolean locked;
+        try {
+            if (waitTime >= 0) {
+                locked = lock.tryLock(waitTime, leaseTime, unit);
+            } else {
+                lock.lockInterruptibly(leaseTime, unit);
+                locked = true;
+            }
+        } catch (RuntimeException e) {
+            LockStatistics.INSTANCE.onFailure(lockKey, multi, e);
+            throw e;
+        }
+        LockStatistics.INSTANCE.onWait(lockKey, multi, System.nanoTime() - start, locked);
+        if (multi) {
+            return LockHandle.ofMultiLock(lockKey, lock, locked);
+        }
+        return new LockHandle(lockKey, lock, leaseTime < 0 ? -1 : unit.toMillis(leaseTime), locked);
+    }
+
+    @FunctionalInterface
+    private interface Acquirer {
+        LockHandle acquire() throws InterruptedException;
     }
 
     private static class RedissonClientHolder {
         private static final RedissonClient INSTANCE = Requires.requireNotNull(
                 SpringContextHolder.getApplicationContext().getBean(RedissonClient.class), "缓存模块尚未加载");
+
+        static {
+            ApplicationContext context = SpringContextHolder.getApplicationContext();
+            CacheProperties properties = context.getBeanProvider(CacheProperties.class)
+                    .getIfAvailable(CacheProperties::new);
+            LockStatistics.INSTANCE.setLockWatchdogTimeout(INSTANCE.getConfig().getLockWatchdogTimeout());
+            LockStatistics.INSTANCE.setLockMetrics(context.getBeanProvider(LockMetrics.class)
+                    .getIfAvailable(() -> LockMetrics.NOOP));
+            LockStatistics.INSTANCE.setSlowHoldThreshold(properties.getLock().getSlowHoldThreshold());
+        }
     }
 
     public static RedissonClient getRedissonClient() {
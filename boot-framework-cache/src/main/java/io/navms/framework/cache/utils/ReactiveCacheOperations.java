@@ -0,0 +1,186 @@
+package io.navms.framework.cache.utils;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 响应式缓存操作
+ * <p>
+ * 基于 {@link AsyncCacheOperations} 构建，订阅时才会发起 Redis 请求，适用于 WebFlux 等响应式场景
+ *
+ * @author navms
+ */
+public final class ReactiveCacheOperations {
+
+    static final ReactiveCacheOperations INSTANCE = new ReactiveCacheOperations();
+
+    private ReactiveCacheOperations() {
+    }
+
+    /**
+     * 设置缓存对象
+     *
+     * @param key      缓存键
+     * @param value    缓存值
+     * @param duration 过期时间
+     */
+    public <T> Mono<Void> setObject(String key, T value, Duration duration) {
+        return Mono.fromCompletionStage(() -> async().setObject(key, value, duration));
+    }
+
+    /**
+     * 获取缓存对象，键不存在时返回空的 Mono
+     *
+     * @param key 缓存键
+     * @return 缓存值
+     */
+    public <T> Mono<T> getObject(String key) {
+        return Mono.fromCompletionStage(() -> async().getObject(key));
+    }
+
+    /**
+     * 设置字符串值
+     *
+     * @param key      缓存键
+     * @param value    字符串值
+     * @param duration 过期时间
+     */
+    public Mono<Void> setString(String key, String value, Duration duration) {
+        return Mono.fromCompletionStage(() -> async().setString(key, value, duration));
+    }
+
+    /**
+     * 获取字符串值，键不存在时返回空的 Mono
+     *
+     * @param key 缓存键
+     * @return 字符串值
+     */
+    public Mono<String> getString(String key) {
+        return Mono.fromCompletionStage(() -> async().getString(key));
+    }
+
+    /**
+     * 批量获取缓存对象
+     *
+     * @param keys 缓存键集合
+     * @return 存在的键值对
+     */
+    public <T> Mono<Map<String, T>> multiGet(Collection<String> keys) {
+        return Mono.fromCompletionStage(() -> async().multiGet(keys));
+    }
+
+    /**
+     * 批量设置缓存对象
+     *
+     * @param values   键值对
+     * @param duration 过期时间，为 null 时不过期
+     */
+    public <T> Mono<Void> multiSet(Map<String, T> values, Duration duration) {
+        return Mono.fromCompletionStage(() -> async().multiSet(values, duration));
+    }
+
+    /**
+     * 从 Map 中获取指定键的值
+     *
+     * @param mapKey 整个 Map 的缓存键
+     * @param key    Map 中的键
+     * @return Map 中该键对应的值
+     */
+    public <K, V> Mono<V> getMap(String mapKey, K key) {
+        return Mono.fromCompletionStage(() -> async().getMap(mapKey, key));
+    }
+
+    /**
+     * 从 Map 中批量获取指定键的值
+     *
+     * @param mapKey 整个 Map 的缓存键
+     * @param keys   Map 中的键
+     * @return 存在的键值对
+     */
+    public <K, V> Mono<Map<K, V>> getAll(String mapKey, Set<K> keys) {
+        return Mono.fromCompletionStage(() -> async().getAll(mapKey, keys));
+    }
+
+    /**
+     * 如果键不存在则设置值
+     *
+     * @param key      缓存键
+     * @param value    缓存值
+     * @param duration 过期时间
+     * @return 是否设置成功
+     */
+    public <T> Mono<Boolean> setIfAbsent(String key, T value, Duration duration) {
+        return Mono.fromCompletionStage(() -> async().setIfAbsent(key, value, duration));
+    }
+
+    /**
+     * 删除缓存键
+     *
+     * @param key 缓存键
+     * @return 是否删除成功
+     */
+    public Mono<Boolean> delete(String key) {
+        return Mono.fromCompletionStage(() -> async().delete(key));
+    }
+
+    /**
+     * 检查键是否存在
+     *
+     * @param key 缓存键
+     * @return 是否存在
+     */
+    public Mono<Boolean> exists(String key) {
+        return Mono.fromCompletionStage(() -> async().exists(key));
+    }
+
+    /**
+     * 设置过期时间
+     *
+     * @param key      缓存键
+     * @param duration 过期时间
+     * @return 是否设置成功
+     */
+    public Mono<Boolean> expire(String key, Duration duration) {
+        return Mono.fromCompletionStage(() -> async().expire(key, duration));
+    }
+
+    /**
+     * 原子递增
+     *
+     * @param key 计数器键
+     * @return 递增后的值
+     */
+    public Mono<Long> increment(String key) {
+        return Mono.fromCompletionStage(() -> async().increment(key));
+    }
+
+    /**
+     * 原子递减
+     *
+     * @param key 计数器键
+     * @return 递减后的值
+     */
+    public Mono<Long> decrement(String key) {
+        return Mono.fromCompletionStage(() -> async().decrement(key));
+    }
+
+    /**
+     * 发布消息
+     *
+     * @param channel 频道
+     * @param message 消息
+     * @return 接收到消息的订阅者数量
+     */
+    public <T> Mono<Long> publish(String channel, T message) {
+        return Mono.fromCompletionStage(() -> async().publish(channel, message));
+    }
+
+    private static AsyncCacheOperations async() {
+        return AsyncCacheOperations.INSTANCE;
+    }
+
+}
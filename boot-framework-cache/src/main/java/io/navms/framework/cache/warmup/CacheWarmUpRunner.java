@@ -0,0 +1,240 @@
+package io.navms.framework.cache.warmup;
+
+import io.navms.framework.cache.config.CacheProperties;
+import io.navms.framework.cache.utils.CacheUtil;
+import io.navms.framework.common.base.log.LogUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 缓存预热执行器
+ * <p>
+ * 在 ApplicationReadyEvent 时于后台依次执行所有 {@link CacheWarmer}，每个批次通过 {@link CacheUtil#multiSet}
+ * 以管道写入，同时进行的批次数不超过 parallelism。配置了 readinessPercentage 时，事件监听会等待预热进度达到该比例
+ * （或超时）后才返回，Spring Boot 在此之后才将应用标记为可接收流量
+ *
+ * @author navms
+ */
+public class CacheWarmUpRunner implements ApplicationListener<ApplicationReadyEvent>, DisposableBean {
+
+    private final List<CacheWarmer> warmers;
+
+    private final CacheProperties.WarmUpProperties properties;
+
+    private final int batchSize;
+
+    private final AtomicLong written = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final CompletableFuture<Void> readiness = new CompletableFuture<>();
+
+    private volatile long expected = -1;
+
+    private volatile boolean completed;
+
+    private ExecutorService executor;
+
+    public CacheWarmUpRunner(List<CacheWarmer> warmers, CacheProperties.WarmUpProperties properties, int batchSize) {
+        this.warmers = new ArrayList<>(warmers);
+        this.warmers.sort(Comparator.comparingInt(CacheWarmer::getOrder));
+        this.properties = properties;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (warmers.isEmpty() || executor != null) {
+            return;
+        }
+
+        int parallelism = Math.max(1, properties.getParallelism());
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(parallelism + 1, runnable -> {
+            Thread thread = new Thread(runnable, "cache-warm-up-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::runAll);
+
+        double percentage = properties.getReadinessPercentage();
+        if (percentage <= 0) {
+            readiness.complete(null);
+            return;
+        }
+        Duration timeout = properties.getReadinessTimeout();
+        try {
+            LogUtils.info("等待缓存预热进度达到 {}% 后再接收流量, 最长等待: {}", percentage, timeout);
+            readiness.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LogUtils.warn("缓存预热未在 {} 内达到 {}%, 当前进度: {}%", timeout, percentage, getProgress());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LogUtils.error("缓存预热失败", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 预热是否已结束
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * 已写入的条目数
+     */
+    public long getWritten() {
+        return written.get();
+    }
+
+    /**
+     * 写入失败的条目数
+     */
+    public long getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * 预热进度（百分比），预计条目数未知时只有结束后才为 100
+     */
+    public double getProgress() {
+        if (completed) {
+            return 100;
+        }
+        long total = expected;
+        return total > 0 ? Math.min(100, written.get() * 100.0 / total) : 0;
+    }
+
+    private void runAll() {
+        long start = System.currentTimeMillis();
+        expected = estimateTotal();
+        LogUtils.info("开始缓存预热, 预热器: {}, 预计条目数: {}", warmers.size(), expected);
+        try {
+            for (CacheWarmer warmer : warmers) {
+                runWarmer(warmer);
+            }
+        } finally {
+            completed = true;
+            readiness.complete(null);
+            LogUtils.info("缓存预热结束, 写入: {}, 失败: {}, 耗时: {}ms",
+                    written.get(), failed.get(), System.currentTimeMillis() - start);
+        }
+    }
+
+    private void runWarmer(CacheWarmer warmer) {
+        long start = System.currentTimeMillis();
+        long writtenBefore = written.get();
+        Semaphore permits = new Semaphore(Math.max(1, properties.getParallelism()));
+        ChunkingSink sink = new ChunkingSink(warmer, permits);
+        try {
+            warmer.warmUp(sink);
+            sink.flush();
+            permits.acquire(Math.max(1, properties.getParallelism()));
+            LogUtils.info("预热器 {} 完成, 写入: {}, 耗时: {}ms",
+                    warmer.getName(), written.get() - writtenBefore, System.currentTimeMillis() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LogUtils.error("预热器 {} 执行失败", e, warmer.getName());
+        }
+    }
+
+    private long estimateTotal() {
+        long total = 0;
+        for (CacheWarmer warmer : warmers) {
+            long size = warmer.estimateSize();
+            if (size < 0) {
+                return -1;
+            }
+            total += size;
+        }
+        return total;
+    }
+
+    private void onWritten(int count) {
+        long before = written.getAndAdd(count);
+        long total = expected;
+        if (total <= 0) {
+            return;
+        }
+        long step = Math.max(1, total / 10);
+        if (before / step != (before + count) / step) {
+            LogUtils.info("缓存预热进度: {}%, 已写入: {}/{}", String.format("%.1f", getProgress()), before + count, total);
+        }
+        if (getProgress() >= properties.getReadinessPercentage()) {
+            readiness.complete(null);
+        }
+    }
+
+    /**
+     * 按批次提交写入的接收器
+     */
+    private class ChunkingSink implements WarmUpSink {
+
+        private final CacheWarmer warmer;
+
+        private final Semaphore permits;
+
+        private Map<String, Object> chunk = new HashMap<>();
+
+        ChunkingSink(CacheWarmer warmer, Semaphore permits) {
+            this.warmer = warmer;
+            this.permits = permits;
+        }
+
+        @Override
+        public void accept(String key, Object value) {
+            chunk.put(key, value);
+            if (chunk.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            Map<String, Object> values = chunk;
+            chunk = new HashMap<>();
+            permits.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    CacheUtil.multiSet(values, warmer.getTtl());
+                    onWritten(values.size());
+                } catch (Exception e) {
+                    failed.addAndGet(values.size());
+                    LogUtils.error("预热器 {} 写入失败, 条目数: {}", e, warmer.getName(), values.size());
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,51 @@
+package io.navms.framework.cache.warmup;
+
+import java.time.Duration;
+
+/**
+ * 缓存预热器
+ * <p>
+ * 注册为 Spring Bean 后，应用启动完成（ApplicationReadyEvent）时由 {@link CacheWarmUpRunner} 按 order 依次执行。
+ * 实现类将需要预热的数据逐条写入 {@link WarmUpSink}，例如通过 Mapper 的流式查询读取热门数据，
+ * 写入 Redis 的分批与并发由框架负责
+ *
+ * @author navms
+ */
+public interface CacheWarmer {
+
+    /**
+     * 预热器名称，用于日志
+     */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * 预计写入的条目数，用于计算进度，未知时返回 -1
+     */
+    default long estimateSize() {
+        return -1;
+    }
+
+    /**
+     * 预热数据的过期时间，为 null 时不过期
+     */
+    default Duration getTtl() {
+        return null;
+    }
+
+    /**
+     * 执行顺序，越小越先执行
+     */
+    default int getOrder() {
+        return 0;
+    }
+
+    /**
+     * 读取预热数据并写入 sink
+     *
+     * @param sink 预热数据接收器
+     */
+    void warmUp(WarmUpSink sink);
+
+}
@@ -0,0 +1,19 @@
+package io.navms.framework.cache.warmup;
+
+/**
+ * 预热数据接收器，写入的数据按批次并发提交到 Redis，并发达到上限时写入会阻塞
+ *
+ * @author navms
+ */
+@FunctionalInterface
+public interface WarmUpSink {
+
+    /**
+     * 写入一条预热数据
+     *
+     * @param key   缓存键
+     * @param value 缓存值
+     */
+    void accept(String key, Object value);
+
+}
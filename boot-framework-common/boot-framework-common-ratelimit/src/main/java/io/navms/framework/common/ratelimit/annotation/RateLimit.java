@@ -40,6 +40,12 @@ public @interface RateLimit {
      */
     int count() default 100;
 
+    /**
+     * 突发容量，即空闲后可连续放行的最大请求数，0 表示与 count 相同
+     * 仅 GCRA 算法使用
+     */
+    int burst() default 0;
+
     /**
      * 限流类型
      */
@@ -8,8 +8,10 @@ import io.navms.framework.common.base.utils.ThreadLocalUtils;
 import io.navms.framework.common.ratelimit.annotation.RateLimit;
 import io.navms.framework.common.ratelimit.config.RateLimitProperties;
 import io.navms.framework.common.ratelimit.exception.RateLimitException;
+import io.navms.framework.common.ratelimit.strategy.RateLimitResult;
 import io.navms.framework.common.ratelimit.strategy.RateLimitStrategy;
 import io.navms.framework.common.ratelimit.strategy.RateLimitStrategyFactory;
+import jakarta.servlet.http.HttpServletResponse;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -22,18 +24,26 @@ import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 限流切面
- * 基于注解实现方法级别的限流控制
+ * 基于注解实现方法级别的限流控制，限流结果写入 X-RateLimit-* 与 Retry-After 响应头
  *
  * @author navms
  */
 @Aspect
 public class RateLimitAspect {
 
+    private static final String HEADER_LIMIT = "X-RateLimit-Limit";
+    private static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    private static final String HEADER_RESET = "X-RateLimit-Reset";
+
     private final RateLimitStrategyFactory strategyFactory;
     private final RateLimitProperties properties;
     private final ExpressionParser parser = new SpelExpressionParser();
@@ -59,11 +69,13 @@ public class RateLimitAspect {
             return point.proceed();
         }
 
+        RateLimitStrategy strategy;
+        String redisKey;
         try {
             // 构建限流 key
             String rateLimitKey = buildRateLimitKey(rateLimit, point, method);
             String md5Key = SecureUtils.md5(rateLimitKey);
-            String redisKey = properties.getKeyPrefix() + ":" + md5Key;
+            redisKey = properties.getKeyPrefix() + ":" + md5Key;
 
             if (properties.isLogEnabled()) {
                 LogUtils.debug("限流检查 - Key: {}, Algorithm: {}, Count: {}, Time: {}{}",
@@ -74,16 +86,20 @@ public class RateLimitAspect {
                         rateLimit.timeUnit().name());
             }
 
-            // 获取限流策略并执行限流检查
-            RateLimitStrategy strategy = strategyFactory.getStrategy(rateLimit.algorithm());
-            boolean acquired = strategy.tryAcquire(
+            // 获取限流策略并执行限流检查，剩余配额与重置时间随结果一并返回
+            strategy = strategyFactory.getStrategy(rateLimit.algorithm());
+            RateLimitResult result = strategy.acquire(
                     redisKey,
                     rateLimit.count(),
                     rateLimit.time(),
-                    rateLimit.timeUnit()
+                    rateLimit.timeUnit(),
+                    rateLimit.burst()
             );
+            if (properties.isHeaderEnabled()) {
+                writeHeaders(result);
+            }
 
-            if (!acquired) {
+            if (!result.allowed()) {
                 if (properties.isLogEnabled()) {
                     LogUtils.warn("触发限流 - Key: {}, Type: {}, Algorithm: {}",
                             rateLimitKey,
@@ -93,19 +109,9 @@ public class RateLimitAspect {
                 throw new RateLimitException(rateLimit.message());
             }
 
-            // 获取剩余配额（可选，用于响应头）
-            long remaining = strategy.getRemaining(
-                    redisKey,
-                    rateLimit.count(),
-                    rateLimit.time(),
-                    rateLimit.timeUnit()
-            );
-
             if (properties.isLogEnabled()) {
-                LogUtils.debug("限流通过 - Key: {}, Remaining: {}", rateLimitKey, remaining);
+                LogUtils.debug("限流通过 - Key: {}, Remaining: {}", rateLimitKey, result.remaining());
             }
-
-            return point.proceed();
         } catch (RateLimitException e) {
             throw e;
         } catch (Exception e) {
@@ -118,6 +124,35 @@ public class RateLimitAspect {
                 throw new RateLimitException("限流服务异常", e);
             }
         }
+
+        // 业务方法在限流检查之外执行，其异常不会被当作限流服务异常而重复执行
+        try {
+            return point.proceed();
+        } finally {
+            strategy.release(redisKey);
+        }
+    }
+
+    /**
+     * 将限流结果写入当前响应头，非 Web 请求时忽略
+     *
+     * @param result 限流结果
+     */
+    private static void writeHeaders(RateLimitResult result) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || response.isCommitted()) {
+            return;
+        }
+        response.setHeader(HEADER_LIMIT, String.valueOf(result.limit()));
+        response.setHeader(HEADER_REMAINING, String.valueOf(result.remaining()));
+        response.setHeader(HEADER_RESET, String.valueOf(TimeUnit.MILLISECONDS.toSeconds(result.resetAt() + 999)));
+        if (!result.allowed()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER,
+                    String.valueOf(Math.max(1, TimeUnit.MILLISECONDS.toSeconds(result.retryAfter() + 999))));
+        }
     }
 
     /**
@@ -26,8 +26,8 @@ public class RateLimitAutoConfiguration {
     }
 
     @Bean
-    public RateLimitStrategyFactory rateLimitStrategyFactory() {
-        return new RateLimitStrategyFactory();
+    public RateLimitStrategyFactory rateLimitStrategyFactory(RateLimitProperties properties) {
+        return new RateLimitStrategyFactory(properties);
     }
 
     @Bean
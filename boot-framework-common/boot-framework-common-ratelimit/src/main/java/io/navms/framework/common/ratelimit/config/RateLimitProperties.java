@@ -3,6 +3,8 @@ package io.navms.framework.common.ratelimit.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 /**
  * 限流配置属性
  *
@@ -32,4 +34,60 @@ public class RateLimitProperties {
      */
     private boolean logEnabled = true;
 
+    /**
+     * 是否在响应头中返回限流状态（X-RateLimit-Limit、X-RateLimit-Remaining、X-RateLimit-Reset、Retry-After）
+     */
+    private boolean headerEnabled = true;
+
+    /**
+     * 本地预取限流配置
+     */
+    private HybridProperties hybrid = new HybridProperties();
+
+    /**
+     * 本机限流配置
+     */
+    private LocalProperties local = new LocalProperties();
+
+    /**
+     * HYBRID 算法从 Redis 预取配额的参数
+     */
+    @Data
+    public static class HybridProperties {
+
+        /**
+         * 每次从 Redis 预取的令牌数占 count 的比例，同时是每个节点可能少放行的上界
+         */
+        private double leaseRatio = 0.1;
+
+        /**
+         * 本地最多保留的限流 key 数量
+         */
+        private long maximumKeys = 100000;
+
+        /**
+         * 本地限流 key 空闲多久后回收
+         */
+        private Duration idleTimeout = Duration.ofMinutes(10);
+
+    }
+
+    /**
+     * 本机令牌桶与本机滑动窗口保存限流状态的本地缓存参数，本机并发数限流的在途数不受其约束
+     */
+    @Data
+    public static class LocalProperties {
+
+        /**
+         * 每种本机限流算法最多保留的限流 key 数量
+         */
+        private long maximumKeys = 100000;
+
+        /**
+         * 限流 key 空闲多久后回收
+         */
+        private Duration idleTimeout = Duration.ofMinutes(10);
+
+    }
+
 }
@@ -24,6 +24,12 @@ public enum RateLimitAlgorithm {
      */
     SLIDING_WINDOW("sliding_window", "滑动窗口"),
 
+    /**
+     * 滑动窗口计数算法
+     * 特点：以前后两个固定窗口加权估算，内存占用固定，适合大限额
+     */
+    SLIDING_WINDOW_COUNTER("sliding_window_counter", "滑动窗口计数"),
+
     /**
      * 令牌桶算法
      * 特点：允许突发流量，平滑限流
@@ -34,7 +40,37 @@ public enum RateLimitAlgorithm {
      * 漏桶算法
      * 特点：强制限流，流量整形
      */
-    LEAKY_BUCKET("leaky_bucket", "漏桶");
+    LEAKY_BUCKET("leaky_bucket", "漏桶"),
+
+    /**
+     * 通用信元速率算法（GCRA）
+     * 特点：每个 key 只保存一个时间戳，支持突发容量与重试时间计算
+     */
+    GCRA("gcra", "通用信元速率"),
+
+    /**
+     * 本地预取算法
+     * 特点：按批次从 Redis 预取配额在本地扣减，Redis 调用少，只会少放行
+     */
+    HYBRID("hybrid", "本地预取"),
+
+    /**
+     * 本机令牌桶算法
+     * 特点：无锁、无网络开销，只限制当前实例
+     */
+    LOCAL_TOKEN_BUCKET("local_token_bucket", "本机令牌桶"),
+
+    /**
+     * 本机滑动窗口算法
+     * 特点：无锁、无网络开销，只限制当前实例，结果为近似值
+     */
+    LOCAL_SLIDING_WINDOW("local_sliding_window", "本机滑动窗口"),
+
+    /**
+     * 本机并发数算法
+     * 特点：限制同时执行的请求数，方法结束后归还，只限制当前实例
+     */
+    LOCAL_CONCURRENCY("local_concurrency", "本机并发数");
 
     private final String code;
     private final String description;
@@ -0,0 +1,32 @@
+package io.navms.framework.common.ratelimit.strategy;
+
+/**
+ * 限流结果
+ * 一次限流检查同时返回是否放行、剩余配额与重置时间，供响应头直接使用
+ *
+ * @param allowed    是否放行
+ * @param limit      限流次数
+ * @param remaining  剩余配额
+ * @param resetAt    配额恢复时间（毫秒时间戳）
+ * @param retryAfter 被限流时建议的重试等待时间（毫秒），放行时为 0
+ * @author navms
+ */
+public record RateLimitResult(boolean allowed, long limit, long remaining, long resetAt, long retryAfter) {
+
+    /**
+     * 根据相对时间创建限流结果
+     *
+     * @param allowed         是否放行
+     * @param limit           限流次数
+     * @param remaining       剩余配额
+     * @param resetAfterMillis 距配额恢复的毫秒数
+     * @param retryAfterMillis 建议的重试等待毫秒数
+     * @return 限流结果
+     */
+    public static RateLimitResult of(boolean allowed, long limit, long remaining,
+                                     long resetAfterMillis, long retryAfterMillis) {
+        return new RateLimitResult(allowed, limit, Math.max(0, remaining),
+                System.currentTimeMillis() + Math.max(0, resetAfterMillis), allowed ? 0 : Math.max(0, retryAfterMillis));
+    }
+
+}
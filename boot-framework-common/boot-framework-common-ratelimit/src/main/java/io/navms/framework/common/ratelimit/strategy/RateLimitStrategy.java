@@ -10,6 +10,32 @@ import java.util.concurrent.TimeUnit;
  */
 public interface RateLimitStrategy {
 
+    /**
+     * 尝试获取令牌，并在同一次调用中返回剩余配额与重置时间
+     *
+     * @param key      限流 key
+     * @param count    限流次数（令牌数量）
+     * @param time     时间窗口
+     * @param timeUnit 时间单位
+     * @return 限流结果
+     */
+    RateLimitResult acquire(String key, int count, long time, TimeUnit timeUnit);
+
+    /**
+     * 尝试获取令牌，并指定突发容量
+     * 只有支持突发容量的策略需要实现，默认忽略突发容量
+     *
+     * @param key      限流 key
+     * @param count    限流次数（令牌数量）
+     * @param time     时间窗口
+     * @param timeUnit 时间单位
+     * @param burst    突发容量，小于等于 0 时与 count 相同
+     * @return 限流结果
+     */
+    default RateLimitResult acquire(String key, int count, long time, TimeUnit timeUnit, int burst) {
+        return acquire(key, count, time, timeUnit);
+    }
+
     /**
      * 尝试获取令牌
      *
@@ -19,10 +45,20 @@ public interface RateLimitStrategy {
      * @param timeUnit 时间单位
      * @return true 获取成功，false 获取失败（被限流）
      */
-    boolean tryAcquire(String key, int count, long time, TimeUnit timeUnit);
+    default boolean tryAcquire(String key, int count, long time, TimeUnit timeUnit) {
+        return acquire(key, count, time, timeUnit).allowed();
+    }
+
+    /**
+     * 归还获取成功的许可，在被限流的方法执行结束后调用，只有按并发数限流的策略需要实现
+     *
+     * @param key 限流 key
+     */
+    default void release(String key) {
+    }
 
     /**
-     * 获取剩余配额
+     * 获取剩余配额（不占用配额）
      *
      * @param key      限流 key
      * @param count    限流次数
@@ -1,11 +1,18 @@
 package io.navms.framework.common.ratelimit.strategy;
 
 import io.navms.framework.common.base.utils.Requires;
+import io.navms.framework.common.ratelimit.config.RateLimitProperties;
 import io.navms.framework.common.ratelimit.enums.RateLimitAlgorithm;
 import io.navms.framework.common.ratelimit.exception.RateLimitCode;
 import io.navms.framework.common.ratelimit.exception.RateLimitException;
 import io.navms.framework.common.ratelimit.strategy.impl.FixedWindowRateLimitStrategy;
+import io.navms.framework.common.ratelimit.strategy.impl.GcraRateLimitStrategy;
+import io.navms.framework.common.ratelimit.strategy.impl.HybridRateLimitStrategy;
 import io.navms.framework.common.ratelimit.strategy.impl.LeakyBucketRateLimitStrategy;
+import io.navms.framework.common.ratelimit.strategy.impl.LocalConcurrencyRateLimitStrategy;
+import io.navms.framework.common.ratelimit.strategy.impl.LocalSlidingWindowRateLimitStrategy;
+import io.navms.framework.common.ratelimit.strategy.impl.LocalTokenBucketRateLimitStrategy;
+import io.navms.framework.common.ratelimit.strategy.impl.SlidingWindowCounterRateLimitStrategy;
 import io.navms.framework.common.ratelimit.strategy.impl.SlidingWindowRateLimitStrategy;
 import io.navms.framework.common.ratelimit.strategy.impl.TokenBucketRateLimitStrategy;
 
@@ -23,17 +30,28 @@ public class RateLimitStrategyFactory {
     private final Map<RateLimitAlgorithm, RateLimitStrategy> strategyMap = new HashMap<>();
 
     public RateLimitStrategyFactory() {
-        initStrategies();
+        this(new RateLimitProperties());
+    }
+
+    public RateLimitStrategyFactory(RateLimitProperties properties) {
+        initStrategies(properties);
     }
 
     /**
      * 初始化所有限流策略
      */
-    private void initStrategies() {
+    private void initStrategies(RateLimitProperties properties) {
         strategyMap.put(RateLimitAlgorithm.FIXED_WINDOW, new FixedWindowRateLimitStrategy());
         strategyMap.put(RateLimitAlgorithm.SLIDING_WINDOW, new SlidingWindowRateLimitStrategy());
+        strategyMap.put(RateLimitAlgorithm.SLIDING_WINDOW_COUNTER, new SlidingWindowCounterRateLimitStrategy());
         strategyMap.put(RateLimitAlgorithm.TOKEN_BUCKET, new TokenBucketRateLimitStrategy());
         strategyMap.put(RateLimitAlgorithm.LEAKY_BUCKET, new LeakyBucketRateLimitStrategy());
+        strategyMap.put(RateLimitAlgorithm.GCRA, new GcraRateLimitStrategy());
+        strategyMap.put(RateLimitAlgorithm.HYBRID, new HybridRateLimitStrategy(properties.getHybrid()));
+        strategyMap.put(RateLimitAlgorithm.LOCAL_TOKEN_BUCKET, new LocalTokenBucketRateLimitStrategy(properties.getLocal()));
+        strategyMap.put(RateLimitAlgorithm.LOCAL_SLIDING_WINDOW,
+                new LocalSlidingWindowRateLimitStrategy(properties.getLocal()));
+        strategyMap.put(RateLimitAlgorithm.LOCAL_CONCURRENCY, new LocalConcurrencyRateLimitStrategy());
     }
 
     /**
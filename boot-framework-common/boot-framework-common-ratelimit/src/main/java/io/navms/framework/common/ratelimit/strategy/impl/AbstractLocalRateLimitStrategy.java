@@ -0,0 +1,80 @@
+package io.navms.framework.common.ratelimit.strategy.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.navms.framework.common.base.utils.Requires;
+import io.navms.framework.common.ratelimit.config.RateLimitProperties;
+import io.navms.framework.common.ratelimit.exception.RateLimitCode;
+import io.navms.framework.common.ratelimit.exception.RateLimitException;
+import io.navms.framework.common.ratelimit.strategy.RateLimitStrategy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 本机限流策略基类
+ * <p>
+ * 每个限流 key 的状态压缩在一个 long 中以 CAS 更新，保存在限制数量并按空闲时间回收的本地缓存里，
+ * 按 IP 等高基数维度限流时内存有上界。时间取单调时钟，不受系统时间调整影响。
+ * 限流只在当前实例内生效，不访问 Redis
+ *
+ * @author navms
+ */
+abstract class AbstractLocalRateLimitStrategy implements RateLimitStrategy {
+
+    /**
+     * 单个计数字段占用的位数
+     */
+    static final int COUNT_BITS = 22;
+
+    static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final long origin = System.nanoTime();
+
+    private final Cache<String, AtomicLong> states;
+
+    AbstractLocalRateLimitStrategy(RateLimitProperties.LocalProperties properties) {
+        this.states = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumKeys())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+    }
+
+    /**
+     * 获取限流 key 的状态，不存在时以初始值创建
+     *
+     * @param key     限流 key
+     * @param initial 初始状态
+     * @return 状态
+     */
+    AtomicLong state(String key, LongSupplier initial) {
+        return states.get(key, k -> new AtomicLong(initial.getAsLong()));
+    }
+
+    /**
+     * 获取已存在的限流 key 状态
+     *
+     * @param key 限流 key
+     * @return 状态，不存在时返回 null
+     */
+    AtomicLong existingState(String key) {
+        return states.getIfPresent(key);
+    }
+
+    /**
+     * 自策略创建起经过的毫秒数
+     */
+    long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - origin);
+    }
+
+    /**
+     * 校验限流次数不超过计数字段容量
+     */
+    static void checkCount(int count) {
+        Requires.requireTrue(count > 0 && count <= COUNT_MASK,
+                () -> new RateLimitException(RateLimitCode.RATE_LIMIT_CONFIG_ERROR));
+    }
+
+}
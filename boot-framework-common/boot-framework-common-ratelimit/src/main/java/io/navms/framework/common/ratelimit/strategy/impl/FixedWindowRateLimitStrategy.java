@@ -1,9 +1,10 @@
 package io.navms.framework.common.ratelimit.strategy.impl;
 
 import io.navms.framework.cache.utils.CacheUtil;
-import io.navms.framework.common.base.utils.DateTimeUtils;
+import io.navms.framework.common.ratelimit.strategy.RateLimitResult;
 import io.navms.framework.common.ratelimit.strategy.RateLimitStrategy;
 import org.redisson.api.RAtomicLong;
+import org.redisson.api.RScript;
 
 import java.util.concurrent.TimeUnit;
 
@@ -12,6 +13,8 @@ import java.util.concurrent.TimeUnit;
  * 实现原理：在固定时间窗口内限制请求次数
  * 优点：实现简单，性能高
  * 缺点：存在临界问题（窗口边界时可能出现瞬时流量超过限制）
+ * <p>
+ * 计数、设置过期与读取剩余时间在一次 EVALSHA 中完成
  *
  * @author navms
  */
@@ -19,18 +22,31 @@ public class FixedWindowRateLimitStrategy implements RateLimitStrategy {
 
     private static final String KEY_PREFIX = "rate_limit:fixed_window:";
 
-    @Override
-    public boolean tryAcquire(String key, int count, long time, TimeUnit timeUnit) {
-        String redisKey = KEY_PREFIX + key;
-        RAtomicLong atomicLong = CacheUtil.getRedissonClient().getAtomicLong(redisKey);
+    /**
+     * 固定窗口限流脚本
+     * KEYS[1]: 限流 key
+     * ARGV[1]: 最大请求数
+     * ARGV[2]: 时间窗口（毫秒）
+     */
+    private static final RedisLuaScript SCRIPT = new RedisLuaScript(
+            """
+                    local key = KEYS[1]
+                    local limit = tonumber(ARGV[1])
+                    local current = redis.call('incr', key)
+                    local ttl = redis.call('pttl', key)
+                    if current == 1 or ttl < 0 then
+                        redis.call('pexpire', key, ARGV[2])
+                        ttl = tonumber(ARGV[2])
+                    end
+                    if current <= limit then
+                        return {1, limit - current, ttl, 0}
+                    end
+                    return {0, 0, ttl, ttl}
+                    """);
 
-        long current = atomicLong.incrementAndGet();
-        // 首次访问，设置过期时间
-        if (current == 1) {
-            atomicLong.expire(DateTimeUtils.ofDuration(time, timeUnit));
-        }
-
-        return current <= count;
+    @Override
+    public RateLimitResult acquire(String key, int count, long time, TimeUnit timeUnit) {
+        return SCRIPT.acquire(RScript.Mode.READ_WRITE, count, KEY_PREFIX + key, count, timeUnit.toMillis(time));
     }
 
     @Override
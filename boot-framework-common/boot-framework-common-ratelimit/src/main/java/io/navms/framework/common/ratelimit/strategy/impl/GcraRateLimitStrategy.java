@@ -0,0 +1,80 @@
+package io.navms.framework.common.ratelimit.strategy.impl;
+
+import io.navms.framework.common.ratelimit.strategy.RateLimitResult;
+import io.navms.framework.common.ratelimit.strategy.RateLimitStrategy;
+import org.redisson.api.RScript;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 通用信元速率限流策略（GCRA）
+ * 实现原理：请求间隔 T = 时间窗口 / count，每个 key 只保存理论到达时间 TAT；
+ * 请求到达时 TAT' = max(TAT, now) + T，若 TAT' - now 不超过 T × burst 则放行并保存 TAT'
+ * 优点：每个 key 只占一个字符串，一次 EVALSHA 完成判断，可直接算出重试等待时间
+ * 缺点：只支持单位时间内的平均速率与突发容量，不记录请求明细
+ * <p>
+ * 时间取 Redis 服务器时间，精度为微秒
+ *
+ * @author navms
+ */
+public class GcraRateLimitStrategy implements RateLimitStrategy {
+
+    private static final String KEY_PREFIX = "rate_limit:gcra:";
+
+    /**
+     * GCRA 限流脚本
+     * KEYS[1]: 限流 key
+     * ARGV[1]: 请求间隔（微秒）
+     * ARGV[2]: 突发容量
+     * ARGV[3]: 是否占用配额（1 占用，0 只查询）
+     * <p>
+     * 返回值：{是否成功（1/0）, 剩余突发配额, 配额完全恢复的毫秒数, 下一次可放行的毫秒数}
+     */
+    private static final RedisLuaScript SCRIPT = new RedisLuaScript(
+            """
+                    local key = KEYS[1]
+                    local interval = tonumber(ARGV[1])
+                    local tolerance = interval * tonumber(ARGV[2])
+                    local time = redis.call('time')
+                    local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+                    
+                    local tat = tonumber(redis.call('get', key)) or now
+                    if tat < now then
+                        tat = now
+                    end
+                    if ARGV[3] == '0' then
+                        return {1, math.floor((now + tolerance - tat) / interval), math.ceil((tat - now) / 1000), 0}
+                    end
+                    
+                    local new_tat = tat + interval
+                    local allow_at = new_tat - tolerance
+                    if now < allow_at then
+                        return {0, 0, math.ceil((tat - now) / 1000), math.ceil((allow_at - now) / 1000)}
+                    end
+                    redis.call('set', key, string.format('%d', new_tat), 'px', math.ceil((new_tat - now) / 1000))
+                    return {1, math.floor((now + tolerance - new_tat) / interval), math.ceil((new_tat - now) / 1000), 0}
+                    """);
+
+    @Override
+    public RateLimitResult acquire(String key, int count, long time, TimeUnit timeUnit) {
+        return acquire(key, count, time, timeUnit, count);
+    }
+
+    @Override
+    public RateLimitResult acquire(String key, int count, long time, TimeUnit timeUnit, int burst) {
+        return execute(key, count, time, timeUnit, burst, true);
+    }
+
+    @Override
+    public long getRemaining(String key, int count, long time, TimeUnit timeUnit) {
+        return execute(key, count, time, timeUnit, count, false).remaining();
+    }
+
+    private static RateLimitResult execute(String key, int count, long time, TimeUnit timeUnit,
+                                           int burst, boolean acquire) {
+        long interval = Math.max(1, timeUnit.toMicros(time) / count);
+        return SCRIPT.acquire(acquire ? RScript.Mode.READ_WRITE : RScript.Mode.READ_ONLY, count,
+                KEY_PREFIX + key, interval, burst > 0 ? burst : count, acquire ? 1 : 0);
+    }
+
+}
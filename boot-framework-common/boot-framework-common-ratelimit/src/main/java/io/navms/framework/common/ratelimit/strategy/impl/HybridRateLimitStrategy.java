@@ -0,0 +1,178 @@
+package io.navms.framework.common.ratelimit.strategy.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.navms.framework.common.ratelimit.config.RateLimitProperties;
+import io.navms.framework.common.ratelimit.strategy.RateLimitResult;
+import io.navms.framework.common.ratelimit.strategy.RateLimitStrategy;
+import org.redisson.api.RScript;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 本地预取限流策略
+ * 实现原理：全局配额按固定窗口保存在 Redis，各节点每次预取 count × leaseRatio 个令牌，
+ * 在本地以 CAS 扣减，用完后再向 Redis 预取；全局配额耗尽后本节点直到窗口结束前直接拒绝，不再访问 Redis
+ * 优点：热点接口上绝大多数请求不访问 Redis，全局不会多放行
+ * 缺点：节点持有但未用完的令牌在窗口结束时作废，全局最多少放行 节点数 × count × leaseRatio 次
+ *
+ * @author navms
+ */
+public class HybridRateLimitStrategy implements RateLimitStrategy {
+
+    private static final String KEY_PREFIX = "rate_limit:hybrid:";
+
+    /**
+     * 配额预取脚本
+     * KEYS[1]: 限流 key
+     * ARGV[1]: 最大请求数
+     * ARGV[2]: 时间窗口（毫秒）
+     * ARGV[3]: 本次预取的令牌数，为 0 时只查询
+     * <p>
+     * 返回值：{预取到的令牌数, 全局剩余配额, 当前窗口结束的毫秒数}
+     */
+    private static final RedisLuaScript LEASE_SCRIPT = new RedisLuaScript(
+            """
+                    local key = KEYS[1]
+                    local limit = tonumber(ARGV[1])
+                    local window = tonumber(ARGV[2])
+                    local requested = tonumber(ARGV[3])
+                    local time = redis.call('time')
+                    local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+                    
+                    local index = math.floor(now / window)
+                    local used = tonumber(redis.call('hget', key, index)) or 0
+                    local granted = math.max(0, math.min(requested, limit - used))
+                    if granted > 0 then
+                        redis.call('hincrby', key, index, granted)
+                        if redis.call('hlen', key) > 1 then
+                            for _, field in ipairs(redis.call('hkeys', key)) do
+                                if tonumber(field) < index then
+                                    redis.call('hdel', key, field)
+                                end
+                            end
+                        end
+                        redis.call('pexpire', key, window)
+                    end
+                    return {granted, math.max(0, limit - used - granted), window - now % window}
+                    """);
+
+    private final double leaseRatio;
+
+    private final Cache<String, Lease> leases;
+
+    public HybridRateLimitStrategy(RateLimitProperties.HybridProperties properties) {
+        this.leaseRatio = properties.getLeaseRatio();
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumKeys())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+    }
+
+    @Override
+    public RateLimitResult acquire(String key, int count, long time, TimeUnit timeUnit) {
+        Lease lease = leases.get(key, k -> new Lease());
+        long now = System.currentTimeMillis();
+        if (now < lease.windowEnd) {
+            if (lease.take()) {
+                return lease.allowed(count, now);
+            }
+            if (lease.exhausted) {
+                return lease.denied(count, now);
+            }
+        }
+
+        lease.lock.lock();
+        try {
+            now = System.currentTimeMillis();
+            if (now < lease.windowEnd) {
+                if (lease.take()) {
+                    return lease.allowed(count, now);
+                }
+                if (lease.exhausted) {
+                    return lease.denied(count, now);
+                }
+            }
+            long requested = Math.max(1, (long) Math.ceil(count * leaseRatio));
+            List<Long> result = lease(key, count, time, timeUnit, requested, RScript.Mode.READ_WRITE);
+            long granted = result.get(0);
+            lease.remote = result.get(1);
+            lease.exhausted = granted == 0;
+            lease.tokens.set(Math.max(0, granted - 1));
+            lease.windowEnd = now + result.get(2);
+            return granted > 0 ? lease.allowed(count, now) : lease.denied(count, now);
+        } finally {
+            lease.lock.unlock();
+        }
+    }
+
+    @Override
+    public long getRemaining(String key, int count, long time, TimeUnit timeUnit) {
+        long remote = lease(key, count, time, timeUnit, 0, RScript.Mode.READ_ONLY).get(1);
+        Lease lease = leases.getIfPresent(key);
+        if (lease == null || System.currentTimeMillis() >= lease.windowEnd) {
+            return remote;
+        }
+        return remote + lease.tokens.get();
+    }
+
+    private static List<Long> lease(String key, int count, long time, TimeUnit timeUnit,
+                                    long requested, RScript.Mode mode) {
+        List<Long> result = LEASE_SCRIPT.eval(mode, RScript.ReturnType.MULTI,
+                Collections.singletonList(KEY_PREFIX + key), count, timeUnit.toMillis(time), requested);
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("限流脚本返回值异常: " + result);
+        }
+        return result;
+    }
+
+    /**
+     * 节点本地持有的配额
+     */
+    private static final class Lease {
+
+        private final AtomicLong tokens = new AtomicLong();
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        /**
+         * 当前配额所属窗口的结束时间（本地时间）
+         */
+        private volatile long windowEnd;
+
+        /**
+         * 最近一次预取时 Redis 中的全局剩余配额
+         */
+        private volatile long remote;
+
+        /**
+         * 全局配额是否已耗尽
+         */
+        private volatile boolean exhausted;
+
+        private boolean take() {
+            long current;
+            do {
+                current = tokens.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        private RateLimitResult allowed(int count, long now) {
+            return RateLimitResult.of(true, count, tokens.get() + remote, windowEnd - now, 0);
+        }
+
+        private RateLimitResult denied(int count, long now) {
+            return RateLimitResult.of(false, count, 0, windowEnd - now, windowEnd - now);
+        }
+
+    }
+
+}
@@ -1,11 +1,9 @@
 package io.navms.framework.common.ratelimit.strategy.impl;
 
-import io.navms.framework.cache.utils.CacheUtil;
+import io.navms.framework.common.ratelimit.strategy.RateLimitResult;
 import io.navms.framework.common.ratelimit.strategy.RateLimitStrategy;
 import org.redisson.api.RScript;
-import org.redisson.client.codec.LongCodec;
 
-import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -14,7 +12,7 @@ import java.util.concurrent.TimeUnit;
  * 优点：强制限流，能够平滑流量
  * 缺点：无法应对突发流量
  * <p>
- * 使用 Lua 脚本实现原子性操作
+ * 使用 Lua 脚本实现原子性操作，水量按小数保存，时间取 Redis 服务器时间
  *
  * @author navms
  */
@@ -26,86 +24,54 @@ public class LeakyBucketRateLimitStrategy implements RateLimitStrategy {
      * Lua 脚本实现漏桶算法
      * KEYS[1]: 限流 key
      * ARGV[1]: 桶容量（最大请求数）
-     * ARGV[2]: 漏出速率（每秒处理的请求数）
-     * ARGV[3]: 当前时间戳（毫秒）
-     * ARGV[4]: 时间窗口（毫秒）
+     * ARGV[2]: 时间窗口（毫秒），桶满时在一个窗口内漏空
+     * ARGV[3]: 是否加水（1 加水，0 只查询）
      * <p>
-     * 返回值：1 表示成功，0 表示失败
+     * 返回值：{是否成功（1/0）, 剩余容量, 漏空的毫秒数, 腾出一个位置的毫秒数}
      */
-    private static final String LEAKY_BUCKET_SCRIPT =
+    private static final RedisLuaScript LEAKY_BUCKET_SCRIPT = new RedisLuaScript(
             """
                     local key = KEYS[1]
                     local capacity = tonumber(ARGV[1])
-                    local rate = tonumber(ARGV[2])
-                    local now = tonumber(ARGV[3])
-                    local window = tonumber(ARGV[4])
+                    local window = tonumber(ARGV[2])
+                    local rate = capacity / window
+                    local time = redis.call('time')
+                    local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
                     
-                    local bucket = redis.call('hgetall', key)
-                    local last_time = now
-                    local water = 0
+                    -- 解析桶状态并计算漏出的水量
+                    local bucket = redis.call('hmget', key, 'water', 'last_time')
+                    local water = tonumber(bucket[1]) or 0
+                    local last_time = tonumber(bucket[2]) or now
+                    water = math.max(0, water - math.max(0, now - last_time) * rate)
                     
-                    -- 解析桶状态
-                    if #bucket > 0 then
-                        for i = 1, #bucket, 2 do
-                            if bucket[i] == 'last_time' then
-                                last_time = tonumber(bucket[i + 1])
-                            elseif bucket[i] == 'water' then
-                                water = tonumber(bucket[i + 1])
-                            end
+                    -- 尝试加水
+                    local allowed = 0
+                    if ARGV[3] == '1' then
+                        if water + 1 <= capacity then
+                            water = water + 1
+                            allowed = 1
                         end
+                        redis.call('hset', key, 'water', tostring(water), 'last_time', now)
+                        redis.call('pexpire', key, window)
                     end
                     
-                    -- 计算漏出的水量
-                    local leaked = math.floor((now - last_time) / 1000 * rate)
-                    water = math.max(0, water - leaked)
-                    
-                    -- 尝试加水
-                    if water < capacity then
-                        water = water + 1
-                        redis.call('hset', key, 'water', water, 'last_time', now)
-                        redis.call('pexpire', key, window)
-                        return 1
-                    else
-                        return 0
+                    local retry_after = 0
+                    if allowed == 0 and water + 1 > capacity then
+                        retry_after = math.ceil((water + 1 - capacity) / rate)
                     end
-                    """;
+                    return {allowed, math.floor(capacity - water), math.ceil(water / rate), retry_after}
+                    """);
 
     @Override
-    public boolean tryAcquire(String key, int count, long time, TimeUnit timeUnit) {
-        String redisKey = KEY_PREFIX + key;
-        RScript script = CacheUtil.getRedissonClient().getScript(LongCodec.INSTANCE);
-
-        long now = System.currentTimeMillis();
-        long windowMillis = timeUnit.toMillis(time);
-        // 计算漏出速率（每秒处理的请求数）
-        double rate = (double) count / timeUnit.toSeconds(time);
-
-        Long result = script.eval(
-                RScript.Mode.READ_WRITE,
-                LEAKY_BUCKET_SCRIPT,
-                RScript.ReturnType.INTEGER,
-                Collections.singletonList(redisKey),
-                count,       // 桶容量
-                rate,        // 漏出速率
-                now,         // 当前时间
-                windowMillis // 过期时间
-        );
-
-        return result != null && result == 1L;
+    public RateLimitResult acquire(String key, int count, long time, TimeUnit timeUnit) {
+        return LEAKY_BUCKET_SCRIPT.acquire(RScript.Mode.READ_WRITE, count, KEY_PREFIX + key,
+                count, timeUnit.toMillis(time), 1);
     }
 
     @Override
     public long getRemaining(String key, int count, long time, TimeUnit timeUnit) {
-        String redisKey = KEY_PREFIX + key;
-
-        // 获取桶中的水量
-        Long water = CacheUtil.getRedissonClient().<Long>getBucket(redisKey + ":water").get();
-        if (water == null) {
-            return count;
-        }
-
-        long remaining = count - water;
-        return Math.max(0, remaining);
+        return LEAKY_BUCKET_SCRIPT.acquire(RScript.Mode.READ_ONLY, count, KEY_PREFIX + key,
+                count, timeUnit.toMillis(time), 0).remaining();
     }
 
 }
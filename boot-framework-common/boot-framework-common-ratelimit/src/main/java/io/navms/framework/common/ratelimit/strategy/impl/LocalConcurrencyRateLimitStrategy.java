@@ -0,0 +1,75 @@
+package io.navms.framework.common.ratelimit.strategy.impl;
+
+import io.navms.framework.common.ratelimit.strategy.RateLimitResult;
+import io.navms.framework.common.ratelimit.strategy.RateLimitStrategy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 本机并发数限流策略
+ * 实现原理：count 为同时执行的最大请求数，获取时 CAS 递增在途数，请求结束后通过 {@link #release(String)} 归还；
+ * 时间窗口不参与计算
+ * 优点：直接保护线程、连接等受并发度约束的资源
+ * 缺点：只限制当前实例，必须与 release 成对调用
+ * <p>
+ * 在途数不放入按容量和空闲时间淘汰的本地缓存，否则持有许可期间被淘汰会使计数归零；
+ * 在途数归零时才移除 key，map 的大小以同时在途的请求数为上界
+ *
+ * @author navms
+ */
+public class LocalConcurrencyRateLimitStrategy implements RateLimitStrategy {
+
+    /**
+     * 已从 map 中移除的计数器标记，持有旧计数器的线程看到后重新获取
+     */
+    private static final long REMOVED = -1;
+
+    private final Map<String, AtomicLong> inFlights = new ConcurrentHashMap<>();
+
+    @Override
+    public RateLimitResult acquire(String key, int count, long time, TimeUnit timeUnit) {
+        AbstractLocalRateLimitStrategy.checkCount(count);
+        while (true) {
+            AtomicLong inFlight = inFlights.computeIfAbsent(key, k -> new AtomicLong());
+            long current = inFlight.get();
+            while (current != REMOVED) {
+                if (current >= count) {
+                    return RateLimitResult.of(false, count, 0, 0, 0);
+                }
+                if (inFlight.compareAndSet(current, current + 1)) {
+                    return RateLimitResult.of(true, count, count - current - 1, 0, 0);
+                }
+                current = inFlight.get();
+            }
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        AtomicLong inFlight = inFlights.get(key);
+        if (inFlight == null) {
+            return;
+        }
+        long current;
+        do {
+            current = inFlight.get();
+            if (current <= 0) {
+                return;
+            }
+        } while (!inFlight.compareAndSet(current, current - 1));
+        // 归零后先标记再移除，避免并发获取的线程在已移除的计数器上递增
+        if (current == 1 && inFlight.compareAndSet(0, REMOVED)) {
+            inFlights.remove(key, inFlight);
+        }
+    }
+
+    @Override
+    public long getRemaining(String key, int count, long time, TimeUnit timeUnit) {
+        AtomicLong inFlight = inFlights.get(key);
+        return inFlight == null ? count : Math.max(0, count - Math.max(0, inFlight.get()));
+    }
+
+}
@@ -0,0 +1,94 @@
+package io.navms.framework.common.ratelimit.strategy.impl;
+
+import io.navms.framework.common.ratelimit.config.RateLimitProperties;
+import io.navms.framework.common.ratelimit.strategy.RateLimitResult;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 本机滑动窗口限流策略
+ * 实现原理：与 {@link SlidingWindowCounterRateLimitStrategy} 相同，以上一个桶计数按重叠比例加权再加上当前桶计数估算窗口内请求数；
+ * 状态为 {窗口序号（高 20 位）, 上一个桶计数（22 位）, 当前桶计数（低 22 位）}，换桶与计数在同一次 CAS 中完成
+ * 优点：无锁、无网络开销，每个 key 只占一个 long
+ * 缺点：只限制当前实例，结果为近似值
+ *
+ * @author navms
+ */
+public class LocalSlidingWindowRateLimitStrategy extends AbstractLocalRateLimitStrategy {
+
+    private static final int INDEX_BITS = 64 - COUNT_BITS * 2;
+
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+    public LocalSlidingWindowRateLimitStrategy(RateLimitProperties.LocalProperties properties) {
+        super(properties);
+    }
+
+    @Override
+    public RateLimitResult acquire(String key, int count, long time, TimeUnit timeUnit) {
+        checkCount(count);
+        long window = Math.max(1, timeUnit.toMillis(time));
+        AtomicLong state = state(key, () -> pack((now() / window) & INDEX_MASK, 0, 0));
+        while (true) {
+            // 先读状态再取时间，保证不会用过期的时间把已切换的窗口回退
+            long current = state.get();
+            long now = now();
+            long index = (now / window) & INDEX_MASK;
+            long elapsed = now % window;
+            long rolled = roll(current, index);
+            long previous = previous(rolled);
+            long counted = counted(rolled);
+            long estimated = (long) (previous * (1 - (double) elapsed / window)) + counted;
+            if (estimated >= count) {
+                long retryAfter = window - elapsed;
+                if (counted < count) {
+                    long threshold = (long) (window * (1 - (double) (count - counted) / previous)) + 1;
+                    retryAfter = Math.max(1, threshold - elapsed);
+                }
+                return RateLimitResult.of(false, count, 0, window - elapsed, retryAfter);
+            }
+            if (state.compareAndSet(current, pack(index, previous, counted + 1))) {
+                return RateLimitResult.of(true, count, count - estimated - 1, window - elapsed, 0);
+            }
+        }
+    }
+
+    @Override
+    public long getRemaining(String key, int count, long time, TimeUnit timeUnit) {
+        AtomicLong state = existingState(key);
+        if (state == null) {
+            return count;
+        }
+        long window = Math.max(1, timeUnit.toMillis(time));
+        long now = now();
+        long rolled = roll(state.get(), (now / window) & INDEX_MASK);
+        long estimated = (long) (previous(rolled) * (1 - (double) (now % window) / window)) + counted(rolled);
+        return Math.max(0, count - estimated);
+    }
+
+    /**
+     * 切换到当前窗口，上一个桶不相邻时清零
+     */
+    private static long roll(long state, long index) {
+        long stateIndex = state >>> (COUNT_BITS * 2);
+        if (stateIndex == index) {
+            return state;
+        }
+        long previous = ((stateIndex + 1) & INDEX_MASK) == index ? counted(state) : 0;
+        return pack(index, previous, 0);
+    }
+
+    private static long pack(long index, long previous, long counted) {
+        return (index << (COUNT_BITS * 2)) | (previous << COUNT_BITS) | counted;
+    }
+
+    private static long previous(long state) {
+        return (state >>> COUNT_BITS) & COUNT_MASK;
+    }
+
+    private static long counted(long state) {
+        return state & COUNT_MASK;
+    }
+
+}
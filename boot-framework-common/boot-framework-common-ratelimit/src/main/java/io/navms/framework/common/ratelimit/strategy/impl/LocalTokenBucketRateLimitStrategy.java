@@ -0,0 +1,88 @@
+package io.navms.framework.common.ratelimit.strategy.impl;
+
+import io.navms.framework.common.ratelimit.config.RateLimitProperties;
+import io.navms.framework.common.ratelimit.strategy.RateLimitResult;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 本机令牌桶限流策略
+ * 实现原理：桶容量为限流次数，一个时间窗口内补满；状态为 {上次补充时间（高 42 位）, 令牌数（低 22 位）}，
+ * 补充与扣减在同一次 CAS 中完成，补充时间只前移产生整数令牌所需的时长，不丢失零头
+ * 优点：无锁、无网络开销，允许突发
+ * 缺点：只限制当前实例
+ *
+ * @author navms
+ */
+public class LocalTokenBucketRateLimitStrategy extends AbstractLocalRateLimitStrategy {
+
+    public LocalTokenBucketRateLimitStrategy(RateLimitProperties.LocalProperties properties) {
+        super(properties);
+    }
+
+    @Override
+    public RateLimitResult acquire(String key, int count, long time, TimeUnit timeUnit) {
+        checkCount(count);
+        long window = Math.max(1, timeUnit.toMillis(time));
+        AtomicLong state = state(key, () -> pack(now(), count));
+        while (true) {
+            // 先读状态再取时间，保证补充时间不会回退
+            long current = state.get();
+            long now = now();
+            long refilled = refill(current, now, count, window);
+            long tokens = tokens(refilled);
+            if (tokens < 1) {
+                long elapsed = now - timestamp(refilled);
+                long retryAfter = (long) Math.ceil((double) window / count - elapsed);
+                return RateLimitResult.of(false, count, 0, window, retryAfter);
+            }
+            long next = pack(timestamp(refilled), tokens - 1);
+            if (state.compareAndSet(current, next)) {
+                return RateLimitResult.of(true, count, tokens - 1, (count - tokens + 1) * window / count, 0);
+            }
+        }
+    }
+
+    @Override
+    public long getRemaining(String key, int count, long time, TimeUnit timeUnit) {
+        AtomicLong state = existingState(key);
+        if (state == null) {
+            return count;
+        }
+        return tokens(refill(state.get(), now(), count, Math.max(1, timeUnit.toMillis(time))));
+    }
+
+    /**
+     * 按经过的时间补充令牌
+     */
+    private static long refill(long state, long now, int capacity, long window) {
+        long last = timestamp(state);
+        long tokens = tokens(state);
+        long elapsed = now - last;
+        if (elapsed <= 0 || tokens >= capacity) {
+            return tokens >= capacity ? pack(now, capacity) : state;
+        }
+        long added = elapsed * capacity / window;
+        if (added <= 0) {
+            return state;
+        }
+        if (tokens + added >= capacity) {
+            return pack(now, capacity);
+        }
+        return pack(last + added * window / capacity, tokens + added);
+    }
+
+    private static long pack(long timestamp, long tokens) {
+        return (timestamp << COUNT_BITS) | tokens;
+    }
+
+    private static long timestamp(long state) {
+        return state >>> COUNT_BITS;
+    }
+
+    private static long tokens(long state) {
+        return state & COUNT_MASK;
+    }
+
+}
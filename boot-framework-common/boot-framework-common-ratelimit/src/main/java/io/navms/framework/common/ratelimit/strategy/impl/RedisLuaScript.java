@@ -0,0 +1,82 @@
+package io.navms.framework.common.ratelimit.strategy.impl;
+
+import io.navms.framework.cache.utils.CacheUtil;
+import io.navms.framework.common.ratelimit.strategy.RateLimitResult;
+import org.redisson.api.RScript;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.LongCodec;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 限流 Lua 脚本
+ * <p>
+ * 首次执行时通过 SCRIPT LOAD 缓存脚本摘要，之后每次只发送 EVALSHA；
+ * 节点重启或主从切换导致脚本丢失（NOSCRIPT）时重新加载并重试一次。
+ * 限流脚本统一返回 {是否成功（1/0）, 剩余配额, 距配额恢复毫秒数, 建议重试等待毫秒数}
+ *
+ * @author navms
+ */
+final class RedisLuaScript {
+
+    private static final String NO_SCRIPT = "NOSCRIPT";
+
+    private final String script;
+
+    private volatile String sha;
+
+    RedisLuaScript(String script) {
+        this.script = script;
+    }
+
+    /**
+     * 执行脚本
+     *
+     * @param mode       读写模式
+     * @param returnType 返回值类型
+     * @param keys       脚本涉及的 key
+     * @param args       脚本参数
+     * @param <R>        返回值类型
+     * @return 脚本返回值
+     */
+    <R> R eval(RScript.Mode mode, RScript.ReturnType returnType, List<Object> keys, Object... args) {
+        RScript rScript = CacheUtil.getRedissonClient().getScript(LongCodec.INSTANCE);
+        String digest = sha;
+        if (digest == null) {
+            digest = load(rScript);
+        }
+        try {
+            return rScript.evalSha(mode, digest, returnType, keys, args);
+        } catch (RedisException e) {
+            if (e.getMessage() == null || !e.getMessage().startsWith(NO_SCRIPT)) {
+                throw e;
+            }
+            return rScript.evalSha(mode, load(rScript), returnType, keys, args);
+        }
+    }
+
+    /**
+     * 执行限流脚本并转换为限流结果
+     *
+     * @param mode  读写模式
+     * @param limit 限流次数
+     * @param key   限流 key
+     * @param args  脚本参数
+     * @return 限流结果
+     */
+    RateLimitResult acquire(RScript.Mode mode, int limit, String key, Object... args) {
+        List<Long> result = eval(mode, RScript.ReturnType.MULTI, Collections.singletonList(key), args);
+        if (result == null || result.size() < 4) {
+            throw new IllegalStateException("限流脚本返回值异常: " + result);
+        }
+        return RateLimitResult.of(result.get(0) == 1L, limit, result.get(1), result.get(2), result.get(3));
+    }
+
+    private String load(RScript rScript) {
+        String digest = rScript.scriptLoad(script);
+        sha = digest;
+        return digest;
+    }
+
+}
@@ -0,0 +1,83 @@
+package io.navms.framework.common.ratelimit.strategy.impl;
+
+import io.navms.framework.common.ratelimit.strategy.RateLimitResult;
+import io.navms.framework.common.ratelimit.strategy.RateLimitStrategy;
+import org.redisson.api.RScript;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 滑动窗口计数限流策略
+ * 实现原理：以窗口大小切分固定桶，只保留当前桶与上一个桶的计数，
+ * 估算值 = 上一个桶计数 × 上一个桶在滑动窗口内的占比 + 当前桶计数
+ * 优点：每个 key 只占一个含两个字段的 Hash，内存与限额无关，适合单窗口上万次的限额
+ * 缺点：假设上一个桶内请求均匀分布，结果为近似值
+ * <p>
+ * 估算、计数与过期在一次 EVALSHA 中原子完成，时间取 Redis 服务器时间
+ *
+ * @author navms
+ */
+public class SlidingWindowCounterRateLimitStrategy implements RateLimitStrategy {
+
+    private static final String KEY_PREFIX = "rate_limit:sliding_window_counter:";
+
+    /**
+     * 滑动窗口计数限流脚本
+     * KEYS[1]: 限流 key
+     * ARGV[1]: 最大请求数
+     * ARGV[2]: 时间窗口（毫秒）
+     * ARGV[3]: 是否占用配额（1 占用，0 只查询）
+     * <p>
+     * 返回值：{是否成功（1/0）, 剩余请求数, 当前桶结束的毫秒数, 估算值回落到限额以下的毫秒数}
+     */
+    private static final RedisLuaScript SCRIPT = new RedisLuaScript(
+            """
+                    local key = KEYS[1]
+                    local limit = tonumber(ARGV[1])
+                    local window = tonumber(ARGV[2])
+                    local time = redis.call('time')
+                    local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+                    
+                    local index = math.floor(now / window)
+                    local counts = redis.call('hmget', key, index, index - 1)
+                    local current = tonumber(counts[1]) or 0
+                    local previous = tonumber(counts[2]) or 0
+                    local elapsed = now % window
+                    local estimated = math.floor(previous * (1 - elapsed / window)) + current
+                    local reset_after = window - elapsed
+                    
+                    if ARGV[3] == '0' then
+                        return {1, math.max(0, limit - estimated), reset_after, 0}
+                    end
+                    if estimated >= limit then
+                        local retry_after = reset_after
+                        if current < limit then
+                            local threshold = math.floor(window * (1 - (limit - current) / previous)) + 1
+                            retry_after = math.max(1, threshold - elapsed)
+                        end
+                        return {0, 0, reset_after, retry_after}
+                    end
+                    redis.call('hincrby', key, index, 1)
+                    if redis.call('hlen', key) > 2 then
+                        for _, field in ipairs(redis.call('hkeys', key)) do
+                            if tonumber(field) < index - 1 then
+                                redis.call('hdel', key, field)
+                            end
+                        end
+                    end
+                    redis.call('pexpire', key, window * 2)
+                    return {1, limit - estimated - 1, reset_after, 0}
+                    """);
+
+    @Override
+    public RateLimitResult acquire(String key, int count, long time, TimeUnit timeUnit) {
+        return SCRIPT.acquire(RScript.Mode.READ_WRITE, count, KEY_PREFIX + key, count, timeUnit.toMillis(time), 1);
+    }
+
+    @Override
+    public long getRemaining(String key, int count, long time, TimeUnit timeUnit) {
+        return SCRIPT.acquire(RScript.Mode.READ_ONLY, count, KEY_PREFIX + key, count, timeUnit.toMillis(time), 0)
+                .remaining();
+    }
+
+}
@@ -1,17 +1,23 @@
 package io.navms.framework.common.ratelimit.strategy.impl;
 
-import io.navms.framework.cache.utils.CacheUtil;
-import io.navms.framework.common.base.utils.DateTimeUtils;
+import io.navms.framework.common.ratelimit.strategy.RateLimitResult;
 import io.navms.framework.common.ratelimit.strategy.RateLimitStrategy;
-import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
 
+import java.util.Collections;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 滑动窗口限流策略
  * 实现原理：使用有序集合（ZSet）存储请求时间戳，统计时间窗口内的请求数
  * 优点：精度高，能很好地平滑限流
- * 缺点：相比固定窗口，性能稍低，内存占用略高
+ * 缺点：相比固定窗口，性能稍低，内存占用与窗口内请求数成正比
+ * <p>
+ * 清理、计数与写入在一次 EVALSHA 中原子完成，时间取 Redis 服务器时间，避免各节点时钟偏差；
+ * 成员使用节点标识加自增序号，同一毫秒内的多个请求不会互相覆盖。
+ * 单窗口限额较大（上万）时建议使用 {@link SlidingWindowCounterRateLimitStrategy}
  *
  * @author navms
  */
@@ -19,47 +25,81 @@ public class SlidingWindowRateLimitStrategy implements RateLimitStrategy {
 
     private static final String KEY_PREFIX = "rate_limit:sliding_window:";
 
-    @Override
-    public boolean tryAcquire(String key, int count, long time, TimeUnit timeUnit) {
-        String redisKey = KEY_PREFIX + key;
-        RScoredSortedSet<String> sortedSet = CacheUtil.getRedissonClient().getScoredSortedSet(redisKey);
-
-        long now = System.currentTimeMillis();
-        long windowStart = now - timeUnit.toMillis(time);
-
-        // 移除过期的请求记录
-        sortedSet.removeRangeByScore(0, true, windowStart, false);
-
-        // 获取当前窗口内的请求数
-        int currentCount = sortedSet.size();
-
-        if (currentCount < count) {
-            // 添加当前请求
-            sortedSet.add(now, String.valueOf(now));
-            // 设置过期时间（窗口大小的2倍，确保数据及时清理）
-            sortedSet.expire(DateTimeUtils.ofDuration(time * 2, timeUnit));
-            return true;
-        }
+    /**
+     * 节点标识，与序号组成请求的唯一成员
+     */
+    private static final String NODE_ID = UUID.randomUUID().toString().substring(0, 8);
+
+    /**
+     * 滑动窗口限流脚本
+     * KEYS[1]: 限流 key
+     * ARGV[1]: 最大请求数
+     * ARGV[2]: 时间窗口（毫秒）
+     * ARGV[3]: 请求唯一成员
+     * <p>
+     * 返回值：{是否成功（1/0）, 剩余请求数, 最早请求移出窗口的毫秒数, 建议重试等待毫秒数}
+     */
+    private static final RedisLuaScript ACQUIRE_SCRIPT = new RedisLuaScript(
+            """
+                    local key = KEYS[1]
+                    local limit = tonumber(ARGV[1])
+                    local window = tonumber(ARGV[2])
+                    local time = redis.call('time')
+                    local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+                    
+                    redis.call('zremrangebyscore', key, '-inf', now - window)
+                    local current = redis.call('zcard', key)
+                    local allowed = 0
+                    if current < limit then
+                        redis.call('zadd', key, now, now .. ':' .. ARGV[3])
+                        redis.call('pexpire', key, window)
+                        current = current + 1
+                        allowed = 1
+                    end
+                    
+                    local reset_after = 0
+                    local oldest = redis.call('zrange', key, 0, 0, 'withscores')
+                    if oldest[2] then
+                        reset_after = tonumber(oldest[2]) + window - now
+                    end
+                    if allowed == 1 then
+                        return {1, limit - current, reset_after, 0}
+                    end
+                    return {0, 0, reset_after, reset_after}
+                    """);
+
+    /**
+     * 剩余请求数查询脚本（只读）
+     * KEYS[1]: 限流 key
+     * ARGV[1]: 最大请求数
+     * ARGV[2]: 时间窗口（毫秒）
+     */
+    private static final RedisLuaScript REMAINING_SCRIPT = new RedisLuaScript(
+            """
+                    local time = redis.call('time')
+                    local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+                    local current = redis.call('zcount', KEYS[1], '(' .. (now - tonumber(ARGV[2])), '+inf')
+                    return math.max(0, tonumber(ARGV[1]) - current)
+                    """);
+
+    private final AtomicLong sequence = new AtomicLong();
 
-        return false;
+    @Override
+    public RateLimitResult acquire(String key, int count, long time, TimeUnit timeUnit) {
+        return ACQUIRE_SCRIPT.acquire(RScript.Mode.READ_WRITE, count, KEY_PREFIX + key,
+                count, timeUnit.toMillis(time), NODE_ID + ':' + sequence.incrementAndGet());
     }
 
     @Override
     public long getRemaining(String key, int count, long time, TimeUnit timeUnit) {
-        String redisKey = KEY_PREFIX + key;
-        RScoredSortedSet<String> sortedSet = CacheUtil.getRedissonClient().getScoredSortedSet(redisKey);
-
-        long now = System.currentTimeMillis();
-        long windowStart = now - timeUnit.toMillis(time);
-
-        // 移除过期的请求记录
-        sortedSet.removeRangeByScore(0, true, windowStart, false);
-
-        // 获取当前窗口内的请求数
-        int currentCount = sortedSet.size();
-        long remaining = count - currentCount;
-
-        return Math.max(0, remaining);
+        Long remaining = REMAINING_SCRIPT.eval(
+                RScript.Mode.READ_ONLY,
+                RScript.ReturnType.INTEGER,
+                Collections.singletonList(KEY_PREFIX + key),
+                count,
+                timeUnit.toMillis(time)
+        );
+        return remaining != null ? remaining : count;
     }
 
 }
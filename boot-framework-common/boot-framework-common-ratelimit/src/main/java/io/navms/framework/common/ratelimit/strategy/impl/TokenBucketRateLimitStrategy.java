@@ -1,10 +1,8 @@
 package io.navms.framework.common.ratelimit.strategy.impl;
 
-import io.navms.framework.cache.utils.CacheUtil;
-import io.navms.framework.common.base.utils.DateTimeUtils;
+import io.navms.framework.common.ratelimit.strategy.RateLimitResult;
 import io.navms.framework.common.ratelimit.strategy.RateLimitStrategy;
-import org.redisson.api.RRateLimiter;
-import org.redisson.api.RateType;
+import org.redisson.api.RScript;
 
 import java.util.concurrent.TimeUnit;
 
@@ -14,42 +12,72 @@ import java.util.concurrent.TimeUnit;
  * 优点：允许一定的突发流量，平滑限流
  * 缺点：实现相对复杂
  * <p>
- * 使用 Redisson 内置的 RateLimiter 实现
+ * 桶容量为限流次数，一个时间窗口内补满；补充、扣减与剩余令牌计算在一次 EVALSHA 中完成，
+ * 时间取 Redis 服务器时间，令牌数按小数保存，避免高频请求下补充量被取整丢失
  *
  * @author navms
  */
 public class TokenBucketRateLimitStrategy implements RateLimitStrategy {
 
-    private static final String KEY_PREFIX = "rate_limit:token_bucket:";
+    /**
+     * 旧版本基于 RRateLimiter 的令牌桶使用 rate_limit:token_bucket: 前缀且数据结构不同，
+     * 滚动发布期间新旧实例同时运行，使用新前缀避免互相读写对方的 key
+     */
+    private static final String KEY_PREFIX = "rate_limit:token_bucket:v2:";
+
+    /**
+     * 令牌桶限流脚本
+     * KEYS[1]: 限流 key
+     * ARGV[1]: 桶容量
+     * ARGV[2]: 补满时间窗口（毫秒）
+     * ARGV[3]: 是否占用令牌（1 占用，0 只查询）
+     * <p>
+     * 返回值：{是否成功（1/0）, 剩余令牌数, 补满的毫秒数, 下一个令牌可用的毫秒数}
+     */
+    private static final RedisLuaScript SCRIPT = new RedisLuaScript(
+            """
+                    local key = KEYS[1]
+                    local capacity = tonumber(ARGV[1])
+                    local window = tonumber(ARGV[2])
+                    local rate = capacity / window
+                    local time = redis.call('time')
+                    local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+                    
+                    local bucket = redis.call('hmget', key, 'tokens', 'timestamp')
+                    local tokens = tonumber(bucket[1])
+                    local last = tonumber(bucket[2])
+                    if tokens == nil or last == nil then
+                        tokens = capacity
+                        last = now
+                    end
+                    tokens = math.min(capacity, tokens + math.max(0, now - last) * rate)
+                    
+                    local allowed = 0
+                    if ARGV[3] == '1' then
+                        if tokens >= 1 then
+                            tokens = tokens - 1
+                            allowed = 1
+                        end
+                        redis.call('hset', key, 'tokens', tostring(tokens), 'timestamp', now)
+                        redis.call('pexpire', key, window)
+                    end
+                    
+                    local retry_after = 0
+                    if allowed == 0 and tokens < 1 then
+                        retry_after = math.ceil((1 - tokens) / rate)
+                    end
+                    return {allowed, math.floor(tokens), math.ceil((capacity - tokens) / rate), retry_after}
+                    """);
 
     @Override
-    public boolean tryAcquire(String key, int count, long time, TimeUnit timeUnit) {
-        String redisKey = KEY_PREFIX + key;
-        RRateLimiter rateLimiter = CacheUtil.getRedissonClient().getRateLimiter(redisKey);
-
-        // 如果限流器未初始化，则初始化
-        if (!rateLimiter.isExists()) {
-            // 配置令牌桶：rate = count / time
-            // RateType.OVERALL 表示全局限流
-            rateLimiter.trySetRate(RateType.OVERALL, count, DateTimeUtils.ofDuration(time, timeUnit));
-        }
-
-        // 尝试获取1个令牌
-        return rateLimiter.tryAcquire(1);
+    public RateLimitResult acquire(String key, int count, long time, TimeUnit timeUnit) {
+        return SCRIPT.acquire(RScript.Mode.READ_WRITE, count, KEY_PREFIX + key, count, timeUnit.toMillis(time), 1);
     }
 
     @Override
     public long getRemaining(String key, int count, long time, TimeUnit timeUnit) {
-        String redisKey = KEY_PREFIX + key;
-        RRateLimiter rateLimiter = CacheUtil.getRedissonClient().getRateLimiter(redisKey);
-
-        if (!rateLimiter.isExists()) {
-            return count;
-        }
-
-        // Redisson 的 RateLimiter 不直接提供剩余令牌数的查询
-        // 这里返回可用令牌数（近似值）
-        return rateLimiter.availablePermits();
+        return SCRIPT.acquire(RScript.Mode.READ_ONLY, count, KEY_PREFIX + key, count, timeUnit.toMillis(time), 0)
+                .remaining();
     }
 
 }